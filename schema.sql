@@ -32,6 +32,8 @@ CREATE TABLE IF NOT EXISTS games (
     community_card_3 TEXT,
     community_card_4 TEXT,
     community_card_5 TEXT,
+    hand_seed INTEGER,                -- Seed the current hand was shuffled from (replays)
+    hand_seed_material TEXT,          -- Hex seed material of the current hand; replaces hand_seed
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     started_at TIMESTAMP,
@@ -1,9 +1,16 @@
 package com.poker;
 
+import java.util.concurrent.ForkJoinPool;
+
+import com.poker.game.application.CalculateEquityUseCase;
 import com.poker.game.application.DealCardsUseCase;
 import com.poker.game.application.PlayerActionUseCase;
 import com.poker.game.application.StartGameUseCase;
+import com.poker.game.application.TurnClock;
+import com.poker.game.domain.evaluation.EquityCalculator;
+import com.poker.game.domain.evaluation.HandEvaluatorType;
 import com.poker.game.domain.repository.GameRepository;
+import com.poker.game.infrastructure.persistence.ActiveGameRegistry;
 import com.poker.game.infrastructure.persistence.SQLiteGameRepository;
 import com.poker.lobby.application.CreateLobbyUseCase;
 import com.poker.lobby.application.JoinLobbyUseCase;
@@ -15,11 +22,17 @@ import com.poker.player.domain.repository.PlayerRepository;
 import com.poker.player.infrastructure.persistence.SQLitePlayerRepository;
 import com.poker.ranking.application.GetLeaderboardUseCase;
 import com.poker.shared.application.dto.PokerUseCasesDTO;
+import com.poker.shared.domain.random.RngMode;
+import com.poker.shared.domain.random.ShuffledDeckPool;
+import com.poker.shared.domain.timer.HashedTimingWheel;
 import com.poker.shared.domain.events.DomainEventPublisher;
+import com.poker.shared.infrastructure.database.DatabaseConnection;
 import com.poker.shared.infrastructure.database.DatabaseInitializer;
 import com.poker.shared.infrastructure.events.WebSocketEventPublisher;
+import com.poker.shared.infrastructure.websocket.CommandExecutorMode;
 import com.poker.shared.infrastructure.websocket.PokerWebSocketEndpoint;
 import com.poker.shared.infrastructure.websocket.ProtocolHandler;
+import com.poker.shared.infrastructure.websocket.TableActors;
 import com.poker.shared.infrastructure.websocket.WebSocketServer;
 
 /**
@@ -44,7 +57,9 @@ public class PokerApplication {
 
         // Wire dependencies (Manual DI)
         PlayerRepository playerRepository = new SQLitePlayerRepository();
-        GameRepository gameRepository = new SQLiteGameRepository(playerRepository);
+        // Live games are served from memory; SQLite is written behind and read on cold start
+        ActiveGameRegistry activeGames = new ActiveGameRegistry(new SQLiteGameRepository(playerRepository));
+        GameRepository gameRepository = activeGames;
         LobbyRepository lobbyRepository = new SQLiteLobbyRepository();
         
         // Event publisher (infrastructure adapter for domain events)
@@ -54,10 +69,41 @@ public class PokerApplication {
         RegisterPlayerUseCase registerPlayer = new RegisterPlayerUseCase(playerRepository);
         GetLeaderboardUseCase getLeaderboard = new GetLeaderboardUseCase(playerRepository);
         
+        // Hand evaluator selected by HAND_EVALUATOR (LOOKUP_TABLE or DETECTOR_CHAIN)
+        System.out.println("Hand evaluator: " + HandEvaluatorType.configured());
+        // Shuffle randomness selected by RNG_MODE (SPLITTABLE, SECURE or SEEDED with RNG_SEED);
+        // an unknown mode fails here, before any table deals
+        System.out.println("Shuffle RNG: " + RngMode.configured());
+
+        // Commands run off the I/O threads on COMMAND_EXECUTOR (VIRTUAL or PLATFORM);
+        // those for one game or lobby run in order on that table's actor
+        System.out.println("Command executor: " + CommandExecutorMode.configured());
+        TableActors tableActors = TableActors.create();
+
+        // One timing wheel runs every table's turn clock; expiries run on the table's actor.
+        // ACTION_TIMEOUT_SECONDS=0 turns the clocks off
+        HashedTimingWheel timingWheel = HashedTimingWheel.configured();
+        TurnClock turnClock = TurnClock.configured(timingWheel, tableActors::submit, eventPublisher);
+        System.out.println("Turn clock: " + (turnClock != null ? "on" : "off"));
+
         // Game use cases (now with event publisher injected)
-        StartGameUseCase startGame = new StartGameUseCase(gameRepository, playerRepository, eventPublisher);
-        PlayerActionUseCase playerAction = new PlayerActionUseCase(gameRepository, eventPublisher);
-        DealCardsUseCase dealCards = new DealCardsUseCase(gameRepository, eventPublisher);
+        StartGameUseCase startGame = new StartGameUseCase(gameRepository, playerRepository, eventPublisher, turnClock);
+        // Equity runouts run on the common ForkJoinPool, never on the table's action thread
+        EquityCalculator equityCalculator = new EquityCalculator(ForkJoinPool.commonPool());
+        CalculateEquityUseCase calculateEquity = new CalculateEquityUseCase(gameRepository, eventPublisher, equityCalculator);
+        PlayerActionUseCase playerAction = new PlayerActionUseCase(gameRepository, eventPublisher, calculateEquity, turnClock);
+        if (turnClock != null) {
+            // Auto-check, or auto-fold when facing a bet, once the player's time is up
+            turnClock.onTimeout(playerAction::actOnTimeout);
+        }
+        // A game dropped from memory takes its clock, time banks and event numbering with it
+        activeGames.onEviction(gameId -> {
+            if (turnClock != null) {
+                turnClock.forget(gameId.asString());
+            }
+            WebSocketEventPublisher.getInstance().forgetScope(gameId.asString());
+        });
+        DealCardsUseCase dealCards = new DealCardsUseCase(gameRepository, eventPublisher, turnClock);
         
         // Lobby use cases
         CreateLobbyUseCase createLobby = new CreateLobbyUseCase(lobbyRepository, playerRepository);
@@ -72,20 +118,23 @@ public class PokerApplication {
             createLobby,
             joinLobby,
             leaveLobby,
-            getLeaderboard
+            getLeaderboard,
+            calculateEquity
         );
 
-        startWebSocketServer(dto, eventPublisher);
+        startWebSocketServer(dto, eventPublisher, tableActors, timingWheel, activeGames);
     }
     
-    private static void startWebSocketServer(PokerUseCasesDTO dto, DomainEventPublisher eventPublisher) {
+    private static void startWebSocketServer(PokerUseCasesDTO dto, DomainEventPublisher eventPublisher,
+                                             TableActors tableActors, HashedTimingWheel timingWheel,
+                                             ActiveGameRegistry activeGames) {
         System.out.println("Starting WebSocket Server...");
         System.out.println("Listening on ws://localhost:8081/ws/poker");
         System.out.println("Press Ctrl+C to stop\n");
         
         // Create protocol handler with all use cases (using JSON protocol)
         ProtocolHandler protocolHandler = new ProtocolHandler(dto, 
-            (WebSocketEventPublisher) eventPublisher);
+            (WebSocketEventPublisher) eventPublisher, tableActors);
         
         // Configure WebSocket endpoint with handler
         PokerWebSocketEndpoint.setProtocolHandler(protocolHandler);
@@ -96,10 +145,22 @@ public class PokerApplication {
         try {
             server.start();
             
-            // Keep running until interrupted
+            // Keep running until interrupted. One hook, so each step sees the previous one done:
+            // no new commands, then no expiries, then no saves, then the last writes, then the pool
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 System.out.println("\nShutting down server...");
                 server.stop();
+                timingWheel.close();
+                System.out.println("Timing wheel: " + timingWheel.stats());
+                tableActors.close();
+                System.out.println("Table actors: " + tableActors.stats());
+                activeGames.close();
+                System.out.println("✓ Active games flushed: " + activeGames.stats());
+                DatabaseConnection database = DatabaseConnection.getInstance();
+                System.out.println("Database pool: " + database.stats());
+                database.shutdown();
+                ShuffledDeckPool.closeShared().forEach((mode, stats) ->
+                    System.out.println("Deck pool (" + mode + "): " + stats));
                 System.out.println("✓ Server stopped");
             }));
             
@@ -0,0 +1,172 @@
+package com.poker.game.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import com.poker.game.application.dto.EquityDTO;
+import com.poker.game.application.dto.PlayerEquityDTO;
+import com.poker.game.domain.evaluation.EquityCalculator;
+import com.poker.game.domain.evaluation.EquityResult;
+import com.poker.game.domain.events.EquityUpdatedEvent;
+import com.poker.game.domain.events.PlayerEquityData;
+import com.poker.game.domain.model.Game;
+import com.poker.game.domain.model.GameId;
+import com.poker.game.domain.model.GameState;
+import com.poker.game.domain.repository.GameRepository;
+import com.poker.player.domain.model.Player;
+import com.poker.shared.domain.events.DomainEventPublisher;
+import com.poker.shared.domain.valueobject.Card;
+
+/**
+ * Use case for calculating the live equity of the players still in a hand.
+ * On demand it completes an EquityDTO; after all-ins it publishes EQUITY_UPDATED.
+ * Either way only the hand snapshot is taken on the calling thread: the calculation
+ * runs on the calculator's pool, so the table's action thread never waits for it.
+ *
+ * Equities are worked out from every live player's hole cards, so they are only
+ * given out once the action is closed (see Game.isActionClosed): before that they
+ * would tell a player still to act how strong the hidden hands are.
+ */
+public class CalculateEquityUseCase {
+    private static final Logger LOGGER = Logger.getLogger(CalculateEquityUseCase.class.getName());
+
+    private final GameRepository gameRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final EquityCalculator equityCalculator;
+
+    public CalculateEquityUseCase(GameRepository gameRepository, DomainEventPublisher eventPublisher,
+                                  EquityCalculator equityCalculator) {
+        this.gameRepository = gameRepository;
+        this.eventPublisher = eventPublisher;
+        this.equityCalculator = equityCalculator;
+    }
+
+    /**
+     * Checks the request and captures the hand on the calling thread, then calculates
+     * in the background.
+     *
+     * @throws IllegalArgumentException If the game is unknown or a dead card does not parse
+     * @throws IllegalStateException If betting is still open or fewer than 2 players are in
+     */
+    public CompletableFuture<EquityDTO> execute(CalculateEquityCommand command) {
+        Game game = gameRepository.findById(GameId.from(command.gameId()))
+            .orElseThrow(() -> new IllegalArgumentException("Game not found: " + command.gameId()));
+        if (!isRunout(game)) {
+            throw new IllegalStateException("Equity is only available once no further betting is possible");
+        }
+
+        HandSnapshot snapshot = HandSnapshot.of(game);
+        if (snapshot.players().size() < 2) {
+            throw new IllegalStateException("Equity needs at least 2 players in the hand");
+        }
+
+        List<Card> deadCards = parseDeadCards(command.deadCards());
+
+        return equityCalculator.calculateAsync(snapshot.holeCards(), snapshot.board(), deadCards)
+            .thenApply(result -> toDTO(command.gameId(), snapshot, result));
+    }
+
+    private static List<Card> parseDeadCards(List<String> values) {
+        List<Card> cards = new ArrayList<>(values.size());
+        for (String value : values) {
+            Card card;
+            try {
+                card = Card.fromString(value);
+            } catch (RuntimeException e) {
+                card = null;
+            }
+            if (card == null) {
+                throw new IllegalArgumentException("Invalid dead card: '" + value + "'");
+            }
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    private static EquityDTO toDTO(String gameId, HandSnapshot snapshot, EquityResult result) {
+        List<PlayerEquityDTO> players = new ArrayList<>();
+        for (int i = 0; i < snapshot.players().size(); i++) {
+            Player player = snapshot.players().get(i);
+            players.add(PlayerEquityDTO.fromDomain(
+                player.getId().asString(),
+                player.getName(),
+                result.getWinProbability(i),
+                result.getTieProbability(i),
+                result.getEquity(i)
+            ));
+        }
+
+        return EquityDTO.fromDomain(gameId, snapshot.phase(), result.getSamples(), result.isExact(), players);
+    }
+
+    /**
+     * Publishes EQUITY_UPDATED in the background once all-ins have closed the action.
+     * The hand is captured before returning, so later changes to the game do not race the calculation.
+     */
+    public void publishIfAllIn(Game game) {
+        if (!isRunout(game)) {
+            return;
+        }
+
+        HandSnapshot snapshot = HandSnapshot.of(game);
+        if (snapshot.players().size() < 2) {
+            return;
+        }
+
+        String gameId = game.getId().asString();
+        equityCalculator.calculateAsync(snapshot.holeCards(), snapshot.board(), List.of())
+            .thenAccept(result -> eventPublisher.publishToScope(gameId, toEvent(gameId, snapshot, result)))
+            .exceptionally(error -> {
+                LOGGER.warning(() -> String.format("Equity calculation failed for game %s: %s", gameId, error.getMessage()));
+                return null;
+            });
+    }
+
+    private static boolean isRunout(Game game) {
+        GameState state = game.getState();
+        return state != GameState.WAITING && state != GameState.SHOWDOWN && state != GameState.FINISHED
+            && game.isActionClosed();
+    }
+
+    private EquityUpdatedEvent toEvent(String gameId, HandSnapshot snapshot, EquityResult result) {
+        List<PlayerEquityData> players = new ArrayList<>();
+        for (int i = 0; i < snapshot.players().size(); i++) {
+            Player player = snapshot.players().get(i);
+            players.add(new PlayerEquityData(
+                player.getId().asString(),
+                player.getName(),
+                result.getWinProbability(i),
+                result.getTieProbability(i),
+                result.getEquity(i)
+            ));
+        }
+        return new EquityUpdatedEvent(gameId, snapshot.phase(), result.getSamples(), result.isExact(), players);
+    }
+
+    /**
+     * Immutable copy of what the calculator needs: players still in the hand,
+     * their hole cards (same order) and the board.
+     */
+    private record HandSnapshot(String phase, List<Player> players, List<List<Card>> holeCards, List<Card> board) {
+
+        static HandSnapshot of(Game game) {
+            List<Player> players = new ArrayList<>();
+            List<List<Card>> holeCards = new ArrayList<>();
+            for (Player player : game.getPlayers()) {
+                if (!player.isFolded() && player.getHand().size() == 2) {
+                    players.add(player);
+                    holeCards.add(player.getHand().getCards());
+                }
+            }
+            return new HandSnapshot(game.getState().name(), List.copyOf(players), List.copyOf(holeCards),
+                game.getCommunityCards());
+        }
+    }
+
+    public record CalculateEquityCommand(
+        String gameId,
+        List<String> deadCards
+    ) {}
+}
@@ -18,10 +18,19 @@ import com.poker.shared.domain.valueobject.Card;
 public class DealCardsUseCase {
     private final GameRepository gameRepository;
     private final DomainEventPublisher eventPublisher;
+    private final TurnClock turnClock;
 
     public DealCardsUseCase(GameRepository gameRepository, DomainEventPublisher eventPublisher) {
+        this(gameRepository, eventPublisher, null);
+    }
+
+    /**
+     * @param turnClock Clock restarted for the first player to act on the new street; null for no timers
+     */
+    public DealCardsUseCase(GameRepository gameRepository, DomainEventPublisher eventPublisher, TurnClock turnClock) {
         this.gameRepository = gameRepository;
         this.eventPublisher = eventPublisher;
+        this.turnClock = turnClock;
     }
 
     public DealCardsDTO dealFlop(DealCardsCommand command) {
@@ -32,6 +41,7 @@ public class DealCardsUseCase {
         
         // Publish cards dealt event
         publishCardsEvent(game, "FLOP", prevCount);
+        startTurnClock(game);
         
         return createResponse(game);
     }
@@ -44,6 +54,7 @@ public class DealCardsUseCase {
         
         // Publish cards dealt event
         publishCardsEvent(game, "TURN", prevCount);
+        startTurnClock(game);
         
         return createResponse(game);
     }
@@ -56,6 +67,7 @@ public class DealCardsUseCase {
         
         // Publish cards dealt event
         publishCardsEvent(game, "RIVER", prevCount);
+        startTurnClock(game);
         
         return createResponse(game);
     }
@@ -72,17 +84,23 @@ public class DealCardsUseCase {
             .collect(Collectors.toList());
         
         DealtCardsEvent event = new DealtCardsEvent(
-            game.getId().getValue().toString(),
+            game.getId().asString(),
             phase,
             newCards,
             allCardsStr
         );
-        eventPublisher.publishToScope(game.getId().getValue().toString(), event);
+        eventPublisher.publishToScope(game.getId().asString(), event);
+    }
+
+    private void startTurnClock(Game game) {
+        if (turnClock != null) {
+            turnClock.startTurn(game);
+        }
     }
 
     private DealCardsDTO createResponse(Game game) {
         return DealCardsDTO.fromDomain(
-            game.getId().getValue().toString(),
+            game.getId().asString(),
             game.getState().name(),
             game.getCommunityCards().size(),
             formatCards(game.getCommunityCards())
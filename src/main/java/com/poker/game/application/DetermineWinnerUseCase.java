@@ -4,6 +4,7 @@ import com.poker.game.application.dto.DetermineWinnerDTO;
 import com.poker.game.domain.events.WinnerDeterminedEvent;
 import com.poker.game.domain.model.Game;
 import com.poker.game.domain.model.GameId;
+import com.poker.game.domain.model.ShowdownResult;
 import com.poker.game.domain.repository.GameRepository;
 import com.poker.player.domain.model.Player;
 import com.poker.player.domain.repository.PlayerRepository;
@@ -30,27 +31,32 @@ public class DetermineWinnerUseCase {
         Game game = gameRepository.findById(GameId.from(command.gameId()))
             .orElseThrow(() -> new IllegalArgumentException("Game not found"));
 
-        int potAmount = game.getCurrentPot().getAmount();
-        
-        // Determine winner (this also distributes the pot)
-        Player winner = game.determineWinner();
+        // Rank the hands once; this also distributes the pot
+        ShowdownResult showdown = game.determineShowdown();
+        Player winner = showdown.getWinner();
+        if (winner == null) {
+            throw new IllegalStateException("No player left to win the pot");
+        }
+        int potAmount = showdown.getPotAmount();
 
         // Save updated game and player states
         gameRepository.save(game);
-        playerRepository.save(winner);
+        for (Player player : showdown.getWinners()) {
+            playerRepository.save(player);
+        }
 
         // Publish winner event
         WinnerDeterminedEvent event = new WinnerDeterminedEvent(
             command.gameId(),
-            winner.getId().getValue().toString(),
+            winner.getId().asString(),
             winner.getName(),
-            "WINNER", // Hand rank would need to be exposed from Game
-            potAmount
+            showdown.getWinningHandRank().name(),
+            showdown.getAmountWon(winner)
         );
         eventPublisher.publishToScope(command.gameId(), event);
 
         return DetermineWinnerDTO.fromDomain(
-            winner.getId().getValue().toString(),
+            winner.getId().asString(),
             winner.getName(),
             winner.getChipsAmount(),
             potAmount
@@ -1,13 +1,11 @@
 package com.poker.game.application;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import com.poker.game.application.dto.PlayerActionDTO;
-import com.poker.game.domain.evaluation.HandEvaluationStrategy;
-import com.poker.game.domain.evaluation.PokerHand;
-import com.poker.game.domain.evaluation.TexasHoldemEvaluator;
+import com.poker.game.domain.evaluation.EquityCalculator;
 import com.poker.game.domain.events.DealtCardsEvent;
 import com.poker.game.domain.events.GameStateChangedEvent;
 import com.poker.game.domain.events.PlayerActionEvent;
@@ -18,8 +16,10 @@ import com.poker.game.domain.model.Game;
 import com.poker.game.domain.model.GameId;
 import com.poker.game.domain.model.GameState;
 import com.poker.game.domain.model.Round;
+import com.poker.game.domain.model.ShowdownResult;
 import com.poker.game.domain.repository.GameRepository;
 import com.poker.player.domain.model.Player;
+import com.poker.player.domain.model.PlayerId;
 import com.poker.player.domain.model.PlayerAction;
 import com.poker.shared.domain.events.DomainEventPublisher;
 import com.poker.shared.domain.valueobject.Card;
@@ -31,21 +31,39 @@ import com.poker.shared.domain.valueobject.Card;
 public class PlayerActionUseCase {
     private final GameRepository gameRepository;
     private final DomainEventPublisher eventPublisher;
+    private final CalculateEquityUseCase calculateEquity;
+    private final TurnClock turnClock;
 
     public PlayerActionUseCase(GameRepository gameRepository, DomainEventPublisher eventPublisher) {
+        this(gameRepository, eventPublisher, new CalculateEquityUseCase(
+            gameRepository, eventPublisher, new EquityCalculator(ForkJoinPool.commonPool())));
+    }
+
+    public PlayerActionUseCase(GameRepository gameRepository, DomainEventPublisher eventPublisher,
+                               CalculateEquityUseCase calculateEquity) {
+        this(gameRepository, eventPublisher, calculateEquity, null);
+    }
+
+    /**
+     * @param turnClock Clock restarted for whoever acts next; null for no timers
+     */
+    public PlayerActionUseCase(GameRepository gameRepository, DomainEventPublisher eventPublisher,
+                               CalculateEquityUseCase calculateEquity, TurnClock turnClock) {
         this.gameRepository = gameRepository;
         this.eventPublisher = eventPublisher;
+        this.calculateEquity = calculateEquity;
+        this.turnClock = turnClock;
     }
 
     public PlayerActionDTO execute(PlayerActionCommand command) {
         // Load game
         Game game = gameRepository.findById(GameId.from(command.gameId()))
             .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        // The game's own id string: interned, so scope lookups reuse one instance per game
+        String gameId = game.getId().asString();
 
         // Find player
-        Player player = game.getPlayers().stream()
-            .filter(p -> p.getId().getValue().toString().equals(command.playerId()))
-            .findFirst()
+        Player player = game.findPlayer(PlayerId.from(command.playerId()))
             .orElseThrow(() -> new IllegalArgumentException("Player not in game"));
 
         // Validate it's player's turn
@@ -75,7 +93,7 @@ public class PlayerActionUseCase {
 
         // Publish event to all subscribed clients
         PlayerActionEvent event = new PlayerActionEvent(
-            command.gameId(),
+            gameId,
             command.playerId(),
             player.getName(),
             command.action().name(),
@@ -83,13 +101,21 @@ public class PlayerActionUseCase {
             round.getPot().getAmount(),
             round.getCurrentBet()
         );
-        eventPublisher.publishToScope(command.gameId(), event);
+        eventPublisher.publishToScope(gameId, event);
 
         // Publish game state change to update whose turn it is
-        publishGameStateChanged(game, command.gameId());
+        publishGameStateChanged(game, gameId);
+
+        // Live equity for spectators once someone is all-in (computed off this thread)
+        calculateEquity.publishIfAllIn(game);
 
         // Check if betting round is complete and automatically progress game
-        checkAndProgressGame(game, command.gameId());
+        checkAndProgressGame(game, gameId);
+
+        // Restart the action clock for whoever is to act now (stops it once the hand is over)
+        if (turnClock != null) {
+            turnClock.startTurn(game);
+        }
 
         return PlayerActionDTO.fromDomain(
             game.getState().name(),
@@ -99,6 +125,31 @@ public class PlayerActionUseCase {
         );
     }
 
+    /**
+     * Acts for a player who ran out of time (see TurnClock): checks when there is no bet
+     * in the round, folds otherwise. Ignored if it is no longer their turn.
+     */
+    public void actOnTimeout(String gameId, String playerId) {
+        Game game = gameRepository.findById(GameId.from(gameId)).orElse(null);
+        if (game == null) {
+            // Deleted while its clock ran: nothing will restart or end the clock now
+            if (turnClock != null) {
+                turnClock.forget(gameId);
+            }
+            return;
+        }
+        Player player = game.getCurrentPlayer();
+        Round round = game.getCurrentRound();
+        if (player == null || round == null || !player.getId().asString().equals(playerId)
+                || !game.isPlayerTurn(player)) {
+            return;
+        }
+
+        // Same rule as BettingRound: CHECK is only legal while nobody has bet
+        PlayerAction action = round.getCurrentBet() == 0 ? PlayerAction.CHECK : PlayerAction.FOLD;
+        execute(new PlayerActionCommand(gameId, playerId, action, 0));
+    }
+
     /**
      * Check if betting round is complete and automatically progress to next phase.
      * Implements the Texas Hold'em game flow:
@@ -109,7 +160,7 @@ public class PlayerActionUseCase {
      */
     private void checkAndProgressGame(Game game, String gameId) {
         // Check if betting round is complete
-        if (!isBettingRoundComplete(game)) {
+        if (!game.isBettingRoundComplete()) {
             return; // Still waiting for more player actions
         }
 
@@ -134,40 +185,6 @@ public class PlayerActionUseCase {
         }
     }
 
-    private boolean isBettingRoundComplete(Game game) {
-        Round round = game.getCurrentRound();
-        List<Player> activePlayers = round.getActivePlayers();
-
-        // If only one player remains (all others folded), round is complete
-        if (activePlayers.size() <= 1) {
-            return true;
-        }
-
-        // Check if all active players have acted OR are all-in
-        for (Player player : activePlayers) {
-            String playerId = player.getId().getValue().toString();
-            boolean hasActed = game.getPlayersActedThisRound().contains(playerId);
-            boolean isAllIn = player.getChipsAmount() == 0;
-            
-            // Player must have acted OR be all-in
-            if (!hasActed && !isAllIn) {
-                return false;
-            }
-        }
-
-        // Check if all active players have matching bets (considering all-ins)
-        int currentBet = round.getCurrentBet();
-        for (Player player : activePlayers) {
-            int playerBet = round.getPlayerBet(player);
-            // Player must match current bet OR be all-in (0 chips)
-            if (playerBet < currentBet && player.getChipsAmount() > 0) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
     private String getNextPhase(GameState currentState) {
         return switch (currentState) {
             case PRE_FLOP -> "FLOP";
@@ -184,6 +201,7 @@ public class PlayerActionUseCase {
         gameRepository.save(game);
         publishCardsDealtEvent(game, "FLOP", prevCount, gameId);
         publishGameStateChanged(game, gameId);
+        calculateEquity.publishIfAllIn(game);
     }
 
     private void dealTurnAutomatically(Game game, String gameId) {
@@ -192,6 +210,7 @@ public class PlayerActionUseCase {
         gameRepository.save(game);
         publishCardsDealtEvent(game, "TURN", prevCount, gameId);
         publishGameStateChanged(game, gameId);
+        calculateEquity.publishIfAllIn(game);
     }
 
     private void dealRiverAutomatically(Game game, String gameId) {
@@ -200,39 +219,22 @@ public class PlayerActionUseCase {
         gameRepository.save(game);
         publishCardsDealtEvent(game, "RIVER", prevCount, gameId);
         publishGameStateChanged(game, gameId);
+        calculateEquity.publishIfAllIn(game);
     }
 
     private void determineWinnerAutomatically(Game game, String gameId) {
-        // Evaluate hands to determine winner and their hand rank
-        HandEvaluationStrategy evaluator = new TexasHoldemEvaluator();
-        Player winner = null;
-        PokerHand bestHand = null;
-        
-        for (Player player : game.getPlayers()) {
-            if (player.isFolded()) continue;
-            
-            List<Card> allCards = new ArrayList<>(player.getHand().getCards());
-            allCards.addAll(game.getCommunityCards());
-            
-            PokerHand hand = evaluator.evaluate(allCards);
-            
-            if (bestHand == null || hand.compareTo(bestHand) > 0) {
-                bestHand = hand;
-                winner = player;
-            }
-        }
-
-        // Use domain method to handle pot distribution
-        game.determineWinner();
+        // The domain ranks every hand once and pays the pot from that result
+        ShowdownResult showdown = game.determineShowdown();
         gameRepository.save(game);
 
-        if (winner != null && bestHand != null) {
+        Player winner = showdown.getWinner();
+        if (winner != null) {
             WinnerDeterminedEvent event = new WinnerDeterminedEvent(
                 gameId,
-                winner.getId().getValue().toString(),
+                winner.getId().asString(),
                 winner.getName(),
-                bestHand.getRank().name(), // Hand rank (e.g., "FLUSH", "STRAIGHT")
-                game.getCurrentPot().getAmount()
+                showdown.getWinningHandRank().name(), // Hand rank (e.g., "FLUSH", "STRAIGHT")
+                showdown.getAmountWon(winner)
             );
             eventPublisher.publishToScope(gameId, event);
         }
@@ -269,13 +271,42 @@ public class PlayerActionUseCase {
         GameStateChangedEvent event = new GameStateChangedEvent(
             gameId,
             game.getState().name(),
-            currentPlayer != null ? currentPlayer.getId().getValue().toString() : null,
+            currentPlayer != null ? currentPlayer.getId().asString() : null,
             currentPlayer != null ? currentPlayer.getName() : null,
             game.getCurrentPot().getAmount(),
             game.getCurrentRound().getCurrentBet(),
             communityCardsStr
         );
         eventPublisher.publishToScope(gameId, event);
+
+        publishCurrentBestHands(game, gameId, currentPlayer, communityCardsStr);
+    }
+
+    /**
+     * Sends every player still in the hand a private copy of the state with their current best hand.
+     * The seat evaluators are fed as cards are dealt, so this is a lookup per player.
+     */
+    private void publishCurrentBestHands(Game game, String gameId, Player currentPlayer, List<String> communityCardsStr) {
+        GameState state = game.getState();
+        if (state == GameState.WAITING || state == GameState.SHOWDOWN || state == GameState.FINISHED) {
+            return;
+        }
+
+        for (Player player : game.getPlayers()) {
+            if (player.isFolded() || player.getHand().isEmpty()) continue;
+
+            GameStateChangedEvent event = new GameStateChangedEvent(
+                gameId,
+                state.name(),
+                currentPlayer != null ? currentPlayer.getId().asString() : null,
+                currentPlayer != null ? currentPlayer.getName() : null,
+                game.getCurrentPot().getAmount(),
+                game.getCurrentRound().getCurrentBet(),
+                communityCardsStr,
+                game.getCurrentHandRank(player).name()
+            );
+            eventPublisher.publishToPlayer(player.getId().asString(), event);
+        }
     }
 
     public record PlayerActionCommand(
@@ -25,12 +25,22 @@ public class StartGameUseCase {
     private final GameRepository gameRepository;
     private final PlayerRepository playerRepository;
     private final DomainEventPublisher eventPublisher;
+    private final TurnClock turnClock;
 
     public StartGameUseCase(GameRepository gameRepository, PlayerRepository playerRepository, 
                           DomainEventPublisher eventPublisher) {
+        this(gameRepository, playerRepository, eventPublisher, null);
+    }
+
+    /**
+     * @param turnClock Clock started for the first player to act; null for no timers
+     */
+    public StartGameUseCase(GameRepository gameRepository, PlayerRepository playerRepository,
+                            DomainEventPublisher eventPublisher, TurnClock turnClock) {
         this.gameRepository = gameRepository;
         this.playerRepository = playerRepository;
         this.eventPublisher = eventPublisher;
+        this.turnClock = turnClock;
     }
 
     public StartGameDTO execute(StartGameCommand command) {
@@ -57,13 +67,13 @@ public class StartGameUseCase {
         // Save game
         gameRepository.save(game);
 
-        String gameId = game.getId().getValue().toString();
+        String gameId = game.getId().asString();
         String lobbyIdStr = command.lobbyId().getValue();
 
         // Prepare player data for event
         List<GamePlayerData> playerDataList = game.getPlayers().stream()
             .map(player -> new GamePlayerData(
-                player.getId().getValue().toString(),
+                player.getId().asString(),
                 player.getName(),
                 player.getChipsAmount(),
                 0, // currentBet - will be updated after first action
@@ -74,7 +84,7 @@ public class StartGameUseCase {
 
         // Get current player information
         Player currentPlayer = game.getCurrentPlayer();
-        String currentPlayerId = currentPlayer != null ? currentPlayer.getId().getValue().toString() : "";
+        String currentPlayerId = currentPlayer != null ? currentPlayer.getId().asString() : "";
         String currentPlayerName = currentPlayer != null ? currentPlayer.getName() : "";
         int currentBet = game.getCurrentRound() != null ? game.getCurrentRound().getCurrentBet() : 0;
 
@@ -118,13 +128,18 @@ public class StartGameUseCase {
             
             PlayerCardsDealtEvent cardsEvent = new PlayerCardsDealtEvent(
                 gameId,
-                player.getId().getValue().toString(),
+                player.getId().asString(),
                 playerCards
             );
             // Publish to player's personal scope
-            eventPublisher.publishToPlayer(player.getId().getValue().toString(), cardsEvent);
+            eventPublisher.publishToPlayer(player.getId().asString(), cardsEvent);
         });
 
+        // Start the first player's action clock
+        if (turnClock != null) {
+            turnClock.startTurn(game);
+        }
+
         // Build response DTO with same structure as event data
         List<StartGameDTO.PlayerGameStateDTO> playerDTOs = playerDataList.stream()
             .map(p -> new StartGameDTO.PlayerGameStateDTO(
@@ -48,7 +48,7 @@ public class StartNewHandUseCase {
                 GameStateChangedEvent event = new GameStateChangedEvent(
                     command.gameId(),
                     "FINISHED",
-                    finalWinner.getId().getValue().toString(),
+                    finalWinner.getId().asString(),
                     finalWinner.getName(),
                     0,
                     0,
@@ -59,7 +59,7 @@ public class StartNewHandUseCase {
                 // Build response DTO for finished game
                 List<StartGameDTO.PlayerGameStateDTO> finishedPlayerDTOs = remainingPlayers.stream()
                     .map(p -> new StartGameDTO.PlayerGameStateDTO(
-                        p.getId().getValue().toString(),
+                        p.getId().asString(),
                         p.getName(),
                         p.getChipsAmount(),
                         0,
@@ -76,7 +76,7 @@ public class StartNewHandUseCase {
                     game.getBlinds().getBigBlind(),
                     0,
                     0,
-                    finalWinner.getId().getValue().toString(),
+                    finalWinner.getId().asString(),
                     finalWinner.getName(),
                     "FINISHED"
                 );
@@ -105,12 +105,12 @@ public class StartNewHandUseCase {
         // Save game
         gameRepository.save(game);
 
-        String gameId = game.getId().getValue().toString();
+        String gameId = game.getId().asString();
 
         // Prepare player data for event
         List<GamePlayerData> playerDataList = remainingPlayers.stream()
             .map(player -> new GamePlayerData(
-                player.getId().getValue().toString(),
+                player.getId().asString(),
                 player.getName(),
                 player.getChipsAmount(),
                 0, // currentBet - will be updated after first action
@@ -121,7 +121,7 @@ public class StartNewHandUseCase {
 
         // Get current player information
         Player currentPlayer = game.getCurrentPlayer();
-        String currentPlayerId = currentPlayer != null ? currentPlayer.getId().getValue().toString() : "";
+        String currentPlayerId = currentPlayer != null ? currentPlayer.getId().asString() : "";
         String currentPlayerName = currentPlayer != null ? currentPlayer.getName() : "";
         int currentBet = game.getCurrentRound() != null ? game.getCurrentRound().getCurrentBet() : 0;
 
@@ -164,10 +164,10 @@ public class StartNewHandUseCase {
             
             PlayerCardsDealtEvent cardsEvent = new PlayerCardsDealtEvent(
                 gameId,
-                player.getId().getValue().toString(),
+                player.getId().asString(),
                 playerCards
             );
-            eventPublisher.publishToPlayer(player.getId().getValue().toString(), cardsEvent);
+            eventPublisher.publishToPlayer(player.getId().asString(), cardsEvent);
         });
 
         // Build response DTO with same structure as event data
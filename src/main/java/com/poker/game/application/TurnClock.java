@@ -0,0 +1,218 @@
+package com.poker.game.application;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.poker.game.domain.events.TurnTimerEvent;
+import com.poker.game.domain.model.Game;
+import com.poker.game.domain.model.GameState;
+import com.poker.player.domain.model.Player;
+import com.poker.shared.domain.enums.EventTypeEnum;
+import com.poker.shared.domain.events.DomainEventPublisher;
+import com.poker.shared.domain.timer.HashedTimingWheel;
+
+/**
+ * Action clock for the player whose turn it is, at every table, on one shared
+ * HashedTimingWheel.
+ *
+ * Each turn gets ACTION_TIMEOUT_SECONDS. When that runs out the player falls back on
+ * their time bank (TIME_BANK_SECONDS per player per game, spent across the game); when
+ * the bank is gone too, the timeout handler acts for them (see
+ * PlayerActionUseCase.actOnTimeout). Every phase is announced to the game scope.
+ *
+ * Expiries are handed to the table executor, so they run in line with the table's
+ * other commands; a turn that ended meanwhile is recognised and ignored.
+ */
+public class TurnClock {
+    private static final long DEFAULT_ACTION_MILLIS = TimeUnit.SECONDS.toMillis(
+        Long.parseLong(System.getenv().getOrDefault("ACTION_TIMEOUT_SECONDS", "30")));
+    private static final long DEFAULT_TIME_BANK_MILLIS = TimeUnit.SECONDS.toMillis(
+        Long.parseLong(System.getenv().getOrDefault("TIME_BANK_SECONDS", "60")));
+
+    private final HashedTimingWheel wheel;
+    private final BiConsumer<String, Runnable> tableExecutor;
+    private final DomainEventPublisher eventPublisher;
+    private final long actionMillis;
+    private final long timeBankMillis;
+    private final Map<String, TableClock> tables = new ConcurrentHashMap<>();
+    private volatile BiConsumer<String, String> timeoutHandler = (gameId, playerId) -> { };
+
+    /**
+     * @param tableExecutor Runs a task for a game id in line with that table's commands
+     * @param actionMillis Time per turn
+     * @param timeBankMillis Extra time each player can draw on once per game, in total
+     */
+    public TurnClock(HashedTimingWheel wheel, BiConsumer<String, Runnable> tableExecutor,
+                     DomainEventPublisher eventPublisher, long actionMillis, long timeBankMillis) {
+        if (actionMillis <= 0 || timeBankMillis < 0) {
+            throw new IllegalArgumentException("Action time must be positive and time bank not negative");
+        }
+        this.wheel = wheel;
+        this.tableExecutor = tableExecutor;
+        this.eventPublisher = eventPublisher;
+        this.actionMillis = actionMillis;
+        this.timeBankMillis = timeBankMillis;
+    }
+
+    /**
+     * Clock timed from the environment, or null when ACTION_TIMEOUT_SECONDS is 0 (no timers).
+     */
+    public static TurnClock configured(HashedTimingWheel wheel, BiConsumer<String, Runnable> tableExecutor,
+                                       DomainEventPublisher eventPublisher) {
+        if (DEFAULT_ACTION_MILLIS <= 0) {
+            return null;
+        }
+        return new TurnClock(wheel, tableExecutor, eventPublisher, DEFAULT_ACTION_MILLIS,
+            Math.max(0, DEFAULT_TIME_BANK_MILLIS));
+    }
+
+    /**
+     * Called with (gameId, playerId) when a player runs out of time, on the table executor.
+     */
+    public void onTimeout(BiConsumer<String, String> handler) {
+        this.timeoutHandler = handler;
+    }
+
+    /**
+     * Ends the running turn, if any, and starts the clock for whoever is to act now.
+     * Call after every change of turn; does nothing but stop the clock outside betting.
+     */
+    public void startTurn(Game game) {
+        String gameId = game.getId().asString();
+        if (game.getState() == GameState.FINISHED) {
+            forget(gameId);
+            return;
+        }
+
+        TableClock table = tables.computeIfAbsent(gameId, id -> new TableClock());
+        String playerId;
+        long timeBank;
+        synchronized (table) {
+            table.endTurn();
+            Player player = game.getCurrentPlayer();
+            if (!isBetting(game.getState()) || player == null || player.isFolded() || player.isAllIn()) {
+                return;
+            }
+
+            playerId = player.getId().asString();
+            timeBank = table.timeBank(playerId);
+            Turn turn = new Turn(playerId, ++table.turns);
+            turn.timeout = schedule(gameId, table, turn.number, actionMillis);
+            table.turn = turn;
+        }
+        eventPublisher.publishToScope(gameId,
+            new TurnTimerEvent(EventTypeEnum.TURN_TIMER_STARTED, gameId, playerId, actionMillis, timeBank));
+    }
+
+    /**
+     * Stops the game's clock and drops its time banks: for games that finished, were
+     * deleted or were evicted from memory. A game that comes back starts afresh.
+     */
+    public void forget(String gameId) {
+        TableClock table = tables.remove(gameId);
+        if (table != null) {
+            synchronized (table) {
+                table.endTurn();
+            }
+        }
+    }
+
+    /**
+     * Number of games the clock is tracking.
+     */
+    public int size() {
+        return tables.size();
+    }
+
+    /**
+     * Time bank the player has left in the game.
+     */
+    public long getTimeBankMillis(String gameId, String playerId) {
+        TableClock table = tables.get(gameId);
+        if (table == null) {
+            return timeBankMillis;
+        }
+        synchronized (table) {
+            return table.timeBank(playerId);
+        }
+    }
+
+    private HashedTimingWheel.Timeout schedule(String gameId, TableClock table, long turnNumber, long delayMillis) {
+        return wheel.schedule(() -> tableExecutor.accept(gameId, () -> expire(gameId, table, turnNumber)),
+            delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void expire(String gameId, TableClock table, long turnNumber) {
+        String playerId;
+        synchronized (table) {
+            Turn turn = table.turn;
+            if (turn == null || turn.number != turnNumber) {
+                return; // The player acted, or the turn moved on, before this ran
+            }
+            playerId = turn.playerId;
+            long timeBank = table.timeBank(playerId);
+            if (!turn.inTimeBank && timeBank > 0) {
+                turn.inTimeBank = true;
+                turn.timeBankStartedNanos = System.nanoTime();
+                turn.timeout = schedule(gameId, table, turnNumber, timeBank);
+                eventPublisher.publishToScope(gameId,
+                    new TurnTimerEvent(EventTypeEnum.TIME_BANK_STARTED, gameId, playerId, timeBank, 0));
+                return;
+            }
+            table.timeBanks.put(playerId, 0L);
+            table.turn = null;
+        }
+        eventPublisher.publishToScope(gameId,
+            new TurnTimerEvent(EventTypeEnum.TURN_TIMED_OUT, gameId, playerId, 0, 0));
+        timeoutHandler.accept(gameId, playerId);
+    }
+
+    private static boolean isBetting(GameState state) {
+        return state == GameState.PRE_FLOP || state == GameState.FLOP
+            || state == GameState.TURN || state == GameState.RIVER;
+    }
+
+    /**
+     * One table's running turn and time banks; guarded by its own monitor.
+     */
+    private final class TableClock {
+        private final Map<String, Long> timeBanks = new HashMap<>();
+        private Turn turn;
+        private long turns;
+
+        long timeBank(String playerId) {
+            return timeBanks.getOrDefault(playerId, timeBankMillis);
+        }
+
+        /**
+         * Stops the running turn's timer and charges any time bank it used.
+         */
+        void endTurn() {
+            if (turn == null) {
+                return;
+            }
+            turn.timeout.cancel();
+            if (turn.inTimeBank) {
+                long used = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - turn.timeBankStartedNanos);
+                timeBanks.put(turn.playerId, Math.max(0, timeBank(turn.playerId) - used));
+            }
+            turn = null;
+        }
+    }
+
+    private static final class Turn {
+        private final String playerId;
+        private final long number;
+        private boolean inTimeBank;
+        private long timeBankStartedNanos;
+        private HashedTimingWheel.Timeout timeout;
+
+        Turn(String playerId, long number) {
+            this.playerId = playerId;
+            this.number = number;
+        }
+    }
+}
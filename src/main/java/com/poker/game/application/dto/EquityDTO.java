@@ -0,0 +1,20 @@
+package com.poker.game.application.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for Equity response.
+ * Used to return the equity of every player still in the hand.
+ */
+public record EquityDTO(
+    String gameId,
+    String phase,
+    long samples,
+    boolean exact,
+    List<PlayerEquityDTO> players
+) {
+    public static EquityDTO fromDomain(String gameId, String phase, long samples, boolean exact,
+                                       List<PlayerEquityDTO> players) {
+        return new EquityDTO(gameId, phase, samples, exact, List.copyOf(players));
+    }
+}
@@ -0,0 +1,17 @@
+package com.poker.game.application.dto;
+
+/**
+ * Data Transfer Object for one player's equity.
+ * Probabilities are in the range 0..1.
+ */
+public record PlayerEquityDTO(
+    String playerId,
+    String playerName,
+    double win,
+    double tie,
+    double equity
+) {
+    public static PlayerEquityDTO fromDomain(String playerId, String playerName, double win, double tie, double equity) {
+        return new PlayerEquityDTO(playerId, playerName, win, tie, equity);
+    }
+}
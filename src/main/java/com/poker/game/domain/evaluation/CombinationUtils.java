@@ -7,10 +7,91 @@ import java.util.List;
 /**
  * Utility class for generating combinations of cards.
  * Uses mathematical combination logic to generate all possible 5-card hands from 7 cards.
+ *
+ * The list-based methods materialise every combination. Hot paths should use the
+ * index-based enumerator instead (forEachCombination / nextCombination), which
+ * writes each combination into a caller-owned int[] and allocates nothing.
  * 
  * REUSED from existing implementation - proven algorithm.
  */
 public class CombinationUtils {
+
+    /**
+     * Receives each combination as indices into the source, in ascending order.
+     * The array is reused between calls and must not be retained.
+     */
+    @FunctionalInterface
+    public interface CombinationVisitor {
+        void visit(int[] indices);
+    }
+
+    /**
+     * Visits every k-element combination of the indices 0..n-1 in lexicographic order.
+     *
+     * @param n Number of source elements
+     * @param indices Reusable buffer; its length is k
+     * @param visitor Callback receiving the buffer for each combination
+     */
+    public static void forEachCombination(int n, int[] indices, CombinationVisitor visitor) {
+        if (!firstCombination(n, indices)) {
+            return;
+        }
+        do {
+            visitor.visit(indices);
+        } while (nextCombination(n, indices));
+    }
+
+    /**
+     * Fills the buffer with the first combination (0, 1, ..., k-1).
+     *
+     * @return false if there is no combination (k greater than n)
+     */
+    public static boolean firstCombination(int n, int[] indices) {
+        int k = indices.length;
+        if (k > n) {
+            return false;
+        }
+        for (int i = 0; i < k; i++) {
+            indices[i] = i;
+        }
+        return true;
+    }
+
+    /**
+     * Advances the buffer in place to the next combination of 0..n-1.
+     *
+     * @return false when the buffer already held the last combination
+     */
+    public static boolean nextCombination(int n, int[] indices) {
+        int k = indices.length;
+        int i = k - 1;
+        while (i >= 0 && indices[i] == n - k + i) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        indices[i]++;
+        for (int j = i + 1; j < k; j++) {
+            indices[j] = indices[j - 1] + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Number of k-element combinations of n elements (n choose k).
+     */
+    public static long binomial(int n, int k) {
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        k = Math.min(k, n - k);
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
     
     /**
      * Generates all possible 5-card combinations from a list of 7 cards.
@@ -25,30 +106,21 @@ public class CombinationUtils {
         }
         
         List<List<Card>> combinations = new ArrayList<>();
-        generateCombinations(cards, 5, 0, new ArrayList<>(), combinations);
+        generateCombinations(cards, 5, combinations);
         return combinations;
     }
 
     /**
-     * Recursive helper method to generate combinations.
+     * Collects every combination of the given length as its own list.
      */
-    private static void generateCombinations(
-            List<Card> cards,
-            int length,
-            int startIndex,
-            List<Card> current,
-            List<List<Card>> result) {
-        
-        if (current.size() == length) {
-            result.add(new ArrayList<>(current));
-            return;
-        }
-
-        for (int i = startIndex; i <= cards.size() - (length - current.size()); i++) {
-            current.add(cards.get(i));
-            generateCombinations(cards, length, i + 1, current, result);
-            current.removeLast();
-        }
+    private static void generateCombinations(List<Card> cards, int length, List<List<Card>> result) {
+        forEachCombination(cards.size(), new int[length], indices -> {
+            List<Card> combination = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                combination.add(cards.get(index));
+            }
+            result.add(combination);
+        });
     }
 
     /**
@@ -64,7 +136,7 @@ public class CombinationUtils {
         }
         
         List<List<Card>> combinations = new ArrayList<>();
-        generateCombinations(cards, k, 0, new ArrayList<>(), combinations);
+        generateCombinations(cards, k, combinations);
         return combinations;
     }
 }
@@ -0,0 +1,339 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.Card;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Equity calculator for players with known hole cards.
+ *
+ * When the remaining board completions are no more than the sample count (e.g. the
+ * 990 runouts of a heads-up all-in on the flop, or anything from the turn on), every
+ * completion is enumerated exactly, with one fork/join task per first dealt card.
+ * Otherwise it falls back to Monte Carlo.
+ *
+ * Random runouts of the missing board cards are split across a ForkJoinPool.
+ * Every leaf task owns its SplittableRandom (split from its parent, never shared)
+ * and a private copy of the remaining deck, and scores hands on raw CardSet masks,
+ * so the hot loop neither locks nor allocates.
+ *
+ * The work is bounded by a sample count and, optionally, a time budget; whichever
+ * is hit first ends the calculation. Defaults come from EQUITY_SAMPLES and
+ * EQUITY_TIME_BUDGET_MS.
+ */
+public class EquityCalculator {
+
+    private static final int DEFAULT_SAMPLES =
+        Integer.parseInt(System.getenv().getOrDefault("EQUITY_SAMPLES", "20000"));
+    private static final Duration DEFAULT_TIME_BUDGET =
+        Duration.ofMillis(Long.parseLong(System.getenv().getOrDefault("EQUITY_TIME_BUDGET_MS", "250")));
+
+    private static final int BOARD_SIZE = 5;
+    private static final int LEAF_SAMPLES = 1024;
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final HandEvaluationStrategy evaluator;
+    private final ForkJoinPool pool;
+    private final SplittableRandom seedSource = new SplittableRandom();
+
+    public EquityCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Uses the lookup-table evaluator, the fastest mask-based strategy, whatever
+     * evaluator the game itself is configured with.
+     */
+    public EquityCalculator(ForkJoinPool pool) {
+        this(HandEvaluatorType.LOOKUP_TABLE.create(), pool);
+    }
+
+    public EquityCalculator(HandEvaluationStrategy evaluator, ForkJoinPool pool) {
+        this.evaluator = evaluator;
+        this.pool = pool;
+    }
+
+    /**
+     * Calculates equity with the configured sample count and time budget.
+     */
+    public EquityResult calculate(List<List<Card>> holeCards, List<Card> board, Collection<Card> deadCards) {
+        return calculate(holeCards, board, deadCards, DEFAULT_SAMPLES, DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * Calculates equity exactly when there are at most {@code samples} board completions,
+     * otherwise over at most {@code samples} random runouts.
+     *
+     * @param holeCards Two known cards per player
+     * @param board Community cards dealt so far (0-5)
+     * @param deadCards Cards known to be out of the deck (mucked, burned, exposed)
+     * @param samples Maximum number of runouts
+     * @param timeBudget Maximum wall time, or null for no limit
+     */
+    public EquityResult calculate(List<List<Card>> holeCards, List<Card> board, Collection<Card> deadCards,
+                                  int samples, Duration timeBudget) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Sample count must be positive, got " + samples);
+        }
+        Runout runout = Runout.of(evaluator, holeCards, board, deadCards);
+
+        if (runout.needed == 0) {
+            // Complete board: a single evaluation is exact
+            Tally tally = new Tally(runout.holeMasks.length);
+            tally.record(runout, runout.boardMask, new int[runout.holeMasks.length]);
+            return tally.toResult(true);
+        }
+
+        if (CombinationUtils.binomial(runout.deck.length, runout.needed) <= samples) {
+            return enumerate(runout);
+        }
+
+        long deadline = timeBudget == null ? 0L : System.nanoTime() + timeBudget.toNanos();
+        RunoutTask task = new RunoutTask(runout, samples, timeBudget != null, deadline, nextRandom());
+        return pool.invoke(task).toResult(false);
+    }
+
+    /**
+     * Evaluates every completion of the board, parallelised over the first dealt card.
+     */
+    private EquityResult enumerate(Runout runout) {
+        List<ExactTask> tasks = new ArrayList<>();
+        for (int first = 0; first <= runout.deck.length - runout.needed; first++) {
+            tasks.add(new ExactTask(runout, first));
+        }
+
+        for (ExactTask task : tasks) {
+            pool.execute(task);
+        }
+        Tally total = new Tally(runout.holeMasks.length);
+        for (ExactTask task : tasks) {
+            total.merge(task.join());
+        }
+        return total.toResult(true);
+    }
+
+    /**
+     * Runs the calculation on the calculator's pool, leaving the calling thread free.
+     */
+    public CompletableFuture<EquityResult> calculateAsync(List<List<Card>> holeCards, List<Card> board,
+                                                          Collection<Card> deadCards) {
+        return CompletableFuture.supplyAsync(() -> calculate(holeCards, board, deadCards), pool);
+    }
+
+    private synchronized SplittableRandom nextRandom() {
+        return seedSource.split();
+    }
+
+    /**
+     * Immutable description of the problem shared by all tasks.
+     */
+    private record Runout(HandEvaluationStrategy evaluator, long[] holeMasks, long boardMask,
+                          int[] deck, int needed) {
+
+        static Runout of(HandEvaluationStrategy evaluator, List<List<Card>> holeCards,
+                         List<Card> board, Collection<Card> deadCards) {
+            if (holeCards.size() < 2) {
+                throw new IllegalArgumentException("Equity needs at least 2 players, got " + holeCards.size());
+            }
+            if (board.size() > BOARD_SIZE) {
+                throw new IllegalArgumentException("Board cannot have more than 5 cards, got " + board.size());
+            }
+
+            long used = 0L;
+            long[] holeMasks = new long[holeCards.size()];
+            for (int p = 0; p < holeCards.size(); p++) {
+                List<Card> hole = holeCards.get(p);
+                if (hole.size() != 2) {
+                    throw new IllegalArgumentException("Each player needs 2 hole cards, got " + hole);
+                }
+                for (Card card : hole) {
+                    used = addUnique(used, card);
+                    holeMasks[p] |= card.getMask();
+                }
+            }
+
+            long boardMask = 0L;
+            for (Card card : board) {
+                used = addUnique(used, card);
+                boardMask |= card.getMask();
+            }
+            for (Card card : deadCards) {
+                used = addUnique(used, card);
+            }
+
+            int[] deck = new int[Card.DECK_SIZE - Long.bitCount(used)];
+            int size = 0;
+            for (int index = 0; index < Card.DECK_SIZE; index++) {
+                if ((used & (1L << index)) == 0) {
+                    deck[size++] = index;
+                }
+            }
+
+            int needed = BOARD_SIZE - board.size();
+            if (deck.length < needed) {
+                throw new IllegalArgumentException("Not enough cards left to complete the board");
+            }
+            return new Runout(evaluator, holeMasks, boardMask, deck, needed);
+        }
+
+        private static long addUnique(long used, Card card) {
+            if ((used & card.getMask()) != 0) {
+                throw new IllegalArgumentException("Duplicate card: " + card);
+            }
+            return used | card.getMask();
+        }
+    }
+
+    /**
+     * Per-task counters, merged up the fork/join tree.
+     */
+    private static final class Tally {
+        private long samples;
+        private final long[] wins;
+        private final long[] ties;
+        private final double[] potShares;
+
+        Tally(int players) {
+            this.wins = new long[players];
+            this.ties = new long[players];
+            this.potShares = new double[players];
+        }
+
+        void record(Runout runout, long boardMask, int[] values) {
+            int best = Integer.MIN_VALUE;
+            int winners = 0;
+            for (int p = 0; p < values.length; p++) {
+                values[p] = runout.evaluator.evaluateMask(runout.holeMasks[p] | boardMask);
+                if (values[p] > best) {
+                    best = values[p];
+                    winners = 1;
+                } else if (values[p] == best) {
+                    winners++;
+                }
+            }
+
+            double share = 1.0 / winners;
+            for (int p = 0; p < values.length; p++) {
+                if (values[p] == best) {
+                    if (winners == 1) {
+                        wins[p]++;
+                    } else {
+                        ties[p]++;
+                    }
+                    potShares[p] += share;
+                }
+            }
+            samples++;
+        }
+
+        Tally merge(Tally other) {
+            samples += other.samples;
+            for (int p = 0; p < wins.length; p++) {
+                wins[p] += other.wins[p];
+                ties[p] += other.ties[p];
+                potShares[p] += other.potShares[p];
+            }
+            return this;
+        }
+
+        EquityResult toResult(boolean exact) {
+            return new EquityResult(samples, exact, wins, ties, potShares);
+        }
+    }
+
+    /**
+     * Splits the sample count in halves down to LEAF_SAMPLES, then simulates.
+     */
+    private static final class RunoutTask extends RecursiveTask<Tally> {
+        private final Runout runout;
+        private final int samples;
+        private final boolean hasDeadline;
+        private final long deadline;
+        private final SplittableRandom random;
+
+        RunoutTask(Runout runout, int samples, boolean hasDeadline, long deadline, SplittableRandom random) {
+            this.runout = runout;
+            this.samples = samples;
+            this.hasDeadline = hasDeadline;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (samples <= LEAF_SAMPLES) {
+                return simulate();
+            }
+            int half = samples / 2;
+            RunoutTask left = new RunoutTask(runout, half, hasDeadline, deadline, random.split());
+            RunoutTask right = new RunoutTask(runout, samples - half, hasDeadline, deadline, random);
+            left.fork();
+            Tally tally = right.compute();
+            return tally.merge(left.join());
+        }
+
+        private Tally simulate() {
+            int[] deck = runout.deck.clone();
+            int[] values = new int[runout.holeMasks.length];
+            Tally tally = new Tally(values.length);
+
+            for (int s = 0; s < samples; s++) {
+                if (hasDeadline && s > 0 && s % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                    break;
+                }
+                // Partial Fisher-Yates: the first `needed` slots become the runout
+                long boardMask = runout.boardMask;
+                for (int i = 0; i < runout.needed; i++) {
+                    int j = i + random.nextInt(deck.length - i);
+                    int card = deck[j];
+                    deck[j] = deck[i];
+                    deck[i] = card;
+                    boardMask |= 1L << card;
+                }
+                tally.record(runout, boardMask, values);
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Enumerates the completions whose lowest remaining card is deck[first];
+     * the other cards are walked through one reusable index buffer.
+     */
+    private static final class ExactTask extends RecursiveTask<Tally> {
+        private final Runout runout;
+        private final int first;
+
+        ExactTask(Runout runout, int first) {
+            this.runout = runout;
+            this.first = first;
+        }
+
+        @Override
+        protected Tally compute() {
+            int[] values = new int[runout.holeMasks.length];
+            Tally tally = new Tally(values.length);
+            long baseMask = runout.boardMask | (1L << runout.deck[first]);
+
+            int offset = first + 1;
+            int[] rest = new int[runout.needed - 1];
+            if (!CombinationUtils.firstCombination(runout.deck.length - offset, rest)) {
+                return tally;
+            }
+            do {
+                long boardMask = baseMask;
+                for (int index : rest) {
+                    boardMask |= 1L << runout.deck[offset + index];
+                }
+                tally.record(runout, boardMask, values);
+            } while (CombinationUtils.nextCombination(runout.deck.length - offset, rest));
+            return tally;
+        }
+    }
+}
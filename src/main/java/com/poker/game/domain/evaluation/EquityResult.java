@@ -0,0 +1,67 @@
+package com.poker.game.domain.evaluation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable outcome of an equity calculation, indexed like the hole cards that were given.
+ *
+ * Win counts only outright wins; tie counts every runout where the player shares the pot.
+ * Equity is the expected share of the pot (a k-way tie is worth 1/k).
+ */
+public final class EquityResult {
+    private final long samples;
+    private final boolean exact;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] potShares;
+
+    EquityResult(long samples, boolean exact, long[] wins, long[] ties, double[] potShares) {
+        this.samples = samples;
+        this.exact = exact;
+        this.wins = wins.clone();
+        this.ties = ties.clone();
+        this.potShares = potShares.clone();
+    }
+
+    /**
+     * Number of runouts evaluated.
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * True when every board completion was enumerated, false for a Monte Carlo estimate.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    public int getPlayerCount() {
+        return wins.length;
+    }
+
+    public double getWinProbability(int player) {
+        return ratio(wins[player]);
+    }
+
+    public double getTieProbability(int player) {
+        return ratio(ties[player]);
+    }
+
+    public double getEquity(int player) {
+        return samples == 0 ? 0.0 : potShares[player] / samples;
+    }
+
+    private double ratio(long count) {
+        return samples == 0 ? 0.0 : (double) count / samples;
+    }
+
+    @Override
+    public String toString() {
+        return "EquityResult{samples=" + samples
+            + ", exact=" + exact
+            + ", wins=" + Arrays.toString(wins)
+            + ", ties=" + Arrays.toString(ties) + "}";
+    }
+}
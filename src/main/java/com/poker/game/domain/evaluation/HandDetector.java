@@ -8,15 +8,32 @@ import java.util.Optional;
  * Interface for detecting specific poker hand types.
  * Each implementation is responsible for detecting exactly one hand type.
  * 
+ * Detectors read a precomputed HandFeatures instead of the raw cards, so the
+ * grouping and counting work is done once per hand for the whole chain.
+ *
  * Part of the Chain of Responsibility pattern for hand detection.
  * REUSED from existing implementation.
  */
 public interface HandDetector {
     /**
-     * Attempts to detect a specific poker hand from exactly 5 cards.
+     * Attempts to detect a specific poker hand from the features of 5 to 7 cards.
+     * When more than 5 cards are given, the best five cards of that hand type are returned.
      * 
-     * @param cards Exactly 5 cards to check
+     * @param features Features of the cards to check
      * @return Optional containing the detected hand, or empty if not detected
      */
-    Optional<PokerHand> detect(List<Card> cards);
+    Optional<PokerHand> detect(HandFeatures features);
+
+    /**
+     * Attempts to detect a specific poker hand from 5 to 7 cards.
+     * 
+     * @param cards 5 to 7 cards to check
+     * @return Optional containing the detected hand, or empty if not detected
+     */
+    default Optional<PokerHand> detect(List<Card> cards) {
+        if (cards.size() < 5 || cards.size() > 7) {
+            return Optional.empty();
+        }
+        return detect(HandFeatures.of(cards));
+    }
 }
@@ -1,6 +1,7 @@
 package com.poker.game.domain.evaluation;
 
 import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.CardSet;
 import java.util.List;
 
 /**
@@ -17,4 +18,32 @@ public interface HandEvaluationStrategy {
      * @return The best poker hand found
      */
     PokerHand evaluate(List<Card> cards);
+
+    /**
+     * Evaluates a list of cards and returns only the packed strength of the best hand.
+     * Comparing two results is a single integer comparison (see HandValue).
+     * Build the PokerHand with PokerHand.fromValue only when the cards are needed.
+     *
+     * @param cards The cards to evaluate (typically 7 cards for Texas Hold'em)
+     * @return The packed value of the best poker hand found
+     */
+    default int evaluateValue(List<Card> cards) {
+        return evaluate(cards).getValue();
+    }
+
+    /**
+     * Evaluates a set of cards (e.g. hole cards OR'ed with the board) and returns
+     * the packed strength of the best hand.
+     */
+    default int evaluateValue(CardSet cards) {
+        return evaluateValue(cards.toList());
+    }
+
+    /**
+     * Evaluates a raw CardSet mask. Implementations that work on masks natively
+     * override this to score without allocating, which matters for equity runouts.
+     */
+    default int evaluateMask(long mask) {
+        return evaluateValue(CardSet.fromMask(mask));
+    }
 }
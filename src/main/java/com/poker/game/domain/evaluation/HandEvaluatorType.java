@@ -0,0 +1,52 @@
+package com.poker.game.domain.evaluation;
+
+/**
+ * Enum of the available hand evaluation strategies.
+ * The active one is chosen through the HAND_EVALUATOR environment variable.
+ *
+ * DETECTOR_CHAIN is the reference implementation (chain of HandDetectors),
+ * LOOKUP_TABLE is the table-driven evaluator used by default.
+ */
+public enum HandEvaluatorType {
+    DETECTOR_CHAIN,
+    LOOKUP_TABLE;
+
+    private static final HandEvaluatorType CONFIGURED =
+        fromString(System.getenv().getOrDefault("HAND_EVALUATOR", LOOKUP_TABLE.name()));
+
+    /**
+     * Creates a new evaluator of this type.
+     */
+    public HandEvaluationStrategy create() {
+        return switch (this) {
+            case DETECTOR_CHAIN -> new TexasHoldemEvaluator();
+            case LOOKUP_TABLE -> new LookupTableEvaluator();
+        };
+    }
+
+    /**
+     * Returns the evaluator type selected by configuration.
+     */
+    public static HandEvaluatorType configured() {
+        return CONFIGURED;
+    }
+
+    /**
+     * Parse an evaluator type, falling back to LOOKUP_TABLE if not recognized.
+     */
+    public static HandEvaluatorType fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return LOOKUP_TABLE;
+        }
+
+        String upperValue = value.trim().toUpperCase();
+
+        for (HandEvaluatorType type : HandEvaluatorType.values()) {
+            if (type.name().equals(upperValue)) {
+                return type;
+            }
+        }
+
+        return LOOKUP_TABLE;
+    }
+}
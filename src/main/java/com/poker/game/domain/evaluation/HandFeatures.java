@@ -0,0 +1,195 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.Suit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable summary of a 5 to 7 card set, computed in a single pass so the
+ * hand detectors never have to sort, group or count the cards themselves.
+ * It also builds the best five cards of a category straight from the 5-7 cards,
+ * which lets the detector chain evaluate a 7-card hand without enumerating subsets.
+ *
+ * Ranks are addressed by ordinal (0 = TWO ... 12 = ACE). Rank masks use one bit
+ * per ordinal; a straight mask has the bit of the top card of every straight
+ * present (the wheel counts as FIVE-high).
+ */
+public final class HandFeatures {
+
+    private static final int RANKS = 13;
+    private static final int ACE = RANKS - 1;
+    private static final int MAX_MULTIPLICITY = 4;
+
+    private final List<Card> cards;
+    private final int[] rankCounts = new int[RANKS];
+    private final int[] suitCounts = new int[Suit.values().length];
+    private final int[] suitRankMasks = new int[Suit.values().length];
+    private final int[] countMasks = new int[MAX_MULTIPLICITY + 1];
+    private final int rankMask;
+    private final int straightMask;
+
+    private HandFeatures(List<Card> cards) {
+        this.cards = cards;
+
+        int mask = 0;
+        for (Card card : cards) {
+            int rank = card.getRank().ordinal();
+            int suit = card.getSuit().ordinal();
+            rankCounts[rank]++;
+            suitCounts[suit]++;
+            suitRankMasks[suit] |= 1 << rank;
+            mask |= 1 << rank;
+        }
+        for (int rank = 0; rank < RANKS; rank++) {
+            int count = Math.min(rankCounts[rank], MAX_MULTIPLICITY);
+            if (count > 0) {
+                countMasks[count] |= 1 << rank;
+            }
+        }
+
+        this.rankMask = mask;
+        this.straightMask = straightMask(mask);
+    }
+
+    public static HandFeatures of(List<Card> cards) {
+        if (cards.size() < 5 || cards.size() > 7) {
+            throw new IllegalArgumentException("Hand features need 5 to 7 cards, got " + cards.size());
+        }
+        return new HandFeatures(cards);
+    }
+
+    /**
+     * Straight mask of a 13-bit rank mask: bit i is set when a straight topped by
+     * rank ordinal i is present. The ace also plays low for the wheel.
+     */
+    public static int straightMask(int rankMask) {
+        int shifted = (rankMask << 1) | ((rankMask >>> ACE) & 1);
+        int runs = shifted & (shifted << 1) & (shifted << 2) & (shifted << 3) & (shifted << 4);
+        return runs >>> 1;
+    }
+
+    /**
+     * Highest rank ordinal set in a rank mask, or -1 if the mask is empty.
+     */
+    public static int highestRank(int rankMask) {
+        return 31 - Integer.numberOfLeadingZeros(rankMask);
+    }
+
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public int rankCount(int rankOrdinal) {
+        return rankCounts[rankOrdinal];
+    }
+
+    public int suitCount(Suit suit) {
+        return suitCounts[suit.ordinal()];
+    }
+
+    public int getRankMask() {
+        return rankMask;
+    }
+
+    public int suitRankMask(Suit suit) {
+        return suitRankMasks[suit.ordinal()];
+    }
+
+    /**
+     * Mask of the ranks held exactly {@code count} times (1-4).
+     */
+    public int ranksWithCount(int count) {
+        return countMasks[count];
+    }
+
+    public int getStraightMask() {
+        return straightMask;
+    }
+
+    /**
+     * The suit holding five or more cards, if any. With at most 7 cards there is at most one.
+     */
+    public Optional<Suit> flushSuit() {
+        for (Suit suit : Suit.values()) {
+            if (suitCounts[suit.ordinal()] >= 5) {
+                return Optional.of(suit);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Builds the best five cards of a pair-based or high card hand: the cards of
+     * the first group, then of the second group, then the highest remaining cards
+     * as kickers. Pass -1 as the rank of an unused group.
+     */
+    public List<Card> groupedHand(int firstRank, int firstCount, int secondRank, int secondCount) {
+        List<Card> hand = new ArrayList<>(5);
+        if (firstRank >= 0) {
+            addCardsOfRank(hand, firstRank, null, firstCount);
+        }
+        if (secondRank >= 0) {
+            addCardsOfRank(hand, secondRank, null, secondCount);
+        }
+
+        int kickers = rankMask;
+        if (firstRank >= 0) {
+            kickers &= ~(1 << firstRank);
+        }
+        if (secondRank >= 0) {
+            kickers &= ~(1 << secondRank);
+        }
+        while (kickers != 0 && hand.size() < 5) {
+            int rank = highestRank(kickers);
+            addCardsOfRank(hand, rank, null, 5 - hand.size());
+            kickers &= ~(1 << rank);
+        }
+        return hand;
+    }
+
+    /**
+     * The five cards of the straight topped by the given rank ordinal, highest first.
+     * The wheel is returned as 5-4-3-2-A. A non-null suit restricts the cards to that suit.
+     */
+    public List<Card> straightCards(int topRank, Suit suit) {
+        List<Card> straight = new ArrayList<>(5);
+        for (int i = 0; i < 5; i++) {
+            int rank = topRank - i;
+            addCardsOfRank(straight, rank < 0 ? ACE : rank, suit, 1);
+        }
+        return straight;
+    }
+
+    /**
+     * Up to {@code limit} cards of the given suit, highest rank first.
+     */
+    public List<Card> suitCardsDescending(Suit suit, int limit) {
+        List<Card> suited = new ArrayList<>(limit);
+        int ranks = suitRankMasks[suit.ordinal()];
+        while (ranks != 0 && suited.size() < limit) {
+            int rank = highestRank(ranks);
+            addCardsOfRank(suited, rank, suit, 1);
+            ranks &= ~(1 << rank);
+        }
+        return suited;
+    }
+
+    private void addCardsOfRank(List<Card> target, int rankOrdinal, Suit suit, int limit) {
+        int added = 0;
+        for (Card card : cards) {
+            if (added == limit) {
+                return;
+            }
+            if (card.getRank().ordinal() == rankOrdinal && (suit == null || card.getSuit() == suit)) {
+                target.add(card);
+                added++;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.Card;
+import java.util.List;
+
+/**
+ * Packed primitive encoding of a poker hand's strength.
+ *
+ * Layout (24 bits used):
+ * - bits 20-23: HandRank value (1 = HIGH_CARD ... 9 = STRAIGHT_FLUSH)
+ * - bits 0-19: the five card ranks as ordinals (0 = TWO ... 12 = ACE),
+ *   4 bits each, in the order PokerHand lists its cards (most significant first)
+ *
+ * Comparing two hands is a single integer comparison: a higher value is a stronger hand.
+ */
+public final class HandValue {
+
+    private static final int CATEGORY_SHIFT = 20;
+    private static final int RANK_BITS = 4;
+    private static final int RANK_MASK = 0xF;
+
+    private HandValue() {
+    }
+
+    public static int of(HandRank handRank, int r0, int r1, int r2, int r3, int r4) {
+        return (handRank.getValue() << CATEGORY_SHIFT)
+            | (r0 << 16) | (r1 << 12) | (r2 << 8) | (r3 << 4) | r4;
+    }
+
+    /**
+     * Packs a hand whose cards are already in comparison order.
+     */
+    public static int of(HandRank handRank, List<Card> cards) {
+        int value = handRank.getValue() << CATEGORY_SHIFT;
+        int slots = Math.min(5, cards.size());
+        for (int i = 0; i < slots; i++) {
+            value |= cards.get(i).getRank().ordinal() << rankShift(i);
+        }
+        return value;
+    }
+
+    public static HandRank handRank(int value) {
+        int category = value >>> CATEGORY_SHIFT;
+        for (HandRank handRank : HandRank.values()) {
+            if (handRank.getValue() == category) {
+                return handRank;
+            }
+        }
+        throw new IllegalArgumentException("Unknown hand category: " + category);
+    }
+
+    /**
+     * Returns the rank ordinal stored in the given card slot (0-4).
+     */
+    public static int rankAt(int value, int slot) {
+        return (value >>> rankShift(slot)) & RANK_MASK;
+    }
+
+    private static int rankShift(int slot) {
+        return RANK_BITS * (4 - slot);
+    }
+}
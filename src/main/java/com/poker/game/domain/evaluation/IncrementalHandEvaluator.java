@@ -0,0 +1,151 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.CardSet;
+import java.util.Collection;
+
+/**
+ * Mutable evaluator state for one seat, fed card by card as the hand is dealt:
+ * hole cards, then flop, turn and river.
+ *
+ * Each card updates the card mask, the packed rank counts and the suit counts in
+ * O(1), so the current value is a table lookup instead of a fresh evaluation.
+ * With fewer than five cards the value describes the made hand so far (pairs,
+ * trips, quads or high cards), which is what a mid-hand display needs.
+ *
+ * The value is cached until the next card arrives. Not thread-safe: a seat's
+ * state belongs to the game that deals its cards.
+ */
+public final class IncrementalHandEvaluator {
+
+    private static final int RANKS = 13;
+    private static final int MAX_CARDS = 7;
+    private static final int NO_FLUSH = -1;
+
+    private final HandEvaluationStrategy strategy;
+    private final boolean tableDriven;
+    private final int[] suitCounts = new int[4];
+    private long mask;
+    private long rankCounts;
+    private int size;
+    private int flushSuit = NO_FLUSH;
+    private int cachedValue;
+    private boolean cacheValid;
+
+    /**
+     * @param strategy The configured evaluator; the lookup-table one is scored straight
+     *                 from the incremental state, any other from the card mask
+     */
+    public IncrementalHandEvaluator(HandEvaluationStrategy strategy) {
+        this.strategy = strategy;
+        this.tableDriven = strategy instanceof LookupTableEvaluator;
+    }
+
+    /**
+     * Forgets every card, ready for a new hand.
+     */
+    public void reset() {
+        mask = 0L;
+        rankCounts = 0L;
+        size = 0;
+        flushSuit = NO_FLUSH;
+        suitCounts[0] = suitCounts[1] = suitCounts[2] = suitCounts[3] = 0;
+        cacheValid = false;
+    }
+
+    public void add(Card card) {
+        if ((mask & card.getMask()) != 0) {
+            throw new IllegalArgumentException("Card already added: " + card);
+        }
+        if (size == MAX_CARDS) {
+            throw new IllegalStateException("Cannot hold more than " + MAX_CARDS + " cards");
+        }
+
+        int suit = card.getSuit().ordinal();
+        mask |= card.getMask();
+        rankCounts += 1L << (3 * card.getRank().ordinal());
+        size++;
+        if (++suitCounts[suit] == 5) {
+            flushSuit = suit;
+        }
+        cacheValid = false;
+    }
+
+    public void addAll(Collection<Card> cards) {
+        cards.forEach(this::add);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public CardSet getCards() {
+        return CardSet.fromMask(mask);
+    }
+
+    /**
+     * Packed HandValue of the best hand made with the cards so far.
+     */
+    public int currentValue() {
+        if (!cacheValid) {
+            cachedValue = computeValue();
+            cacheValid = true;
+        }
+        return cachedValue;
+    }
+
+    public HandRank currentRank() {
+        return HandValue.handRank(currentValue());
+    }
+
+    /**
+     * The best five cards; needs at least five cards.
+     */
+    public PokerHand currentBestHand() {
+        if (size < 5) {
+            throw new IllegalStateException("A poker hand needs 5 cards, have " + size);
+        }
+        return PokerHand.fromValue(currentValue(), getCards().toList());
+    }
+
+    private int computeValue() {
+        if (size >= 5) {
+            return tableDriven
+                ? LookupTableEvaluator.evaluateState(mask, rankCounts, size, flushSuit)
+                : strategy.evaluateMask(mask);
+        }
+        return partialValue();
+    }
+
+    /**
+     * Value of a 0-4 card hand from the rank counts: groups by size then rank,
+     * unused slots left at zero.
+     */
+    private int partialValue() {
+        int[] slots = new int[5];
+        int slot = 0;
+        int pairs = 0;
+        int largestGroup = 0;
+        for (int count = 4; count >= 1; count--) {
+            for (int rank = RANKS - 1; rank >= 0; rank--) {
+                if (((rankCounts >>> (3 * rank)) & 0x7) == count) {
+                    largestGroup = Math.max(largestGroup, count);
+                    if (count == 2) {
+                        pairs++;
+                    }
+                    for (int i = 0; i < count && slot < 5; i++) {
+                        slots[slot++] = rank;
+                    }
+                }
+            }
+        }
+
+        HandRank handRank = switch (largestGroup) {
+            case 4 -> HandRank.FOUR_OF_A_KIND;
+            case 3 -> HandRank.THREE_OF_A_KIND;
+            case 2 -> pairs == 2 ? HandRank.TWO_PAIR : HandRank.ONE_PAIR;
+            default -> HandRank.HIGH_CARD;
+        };
+        return HandValue.of(handRank, slots[0], slots[1], slots[2], slots[3], slots[4]);
+    }
+}
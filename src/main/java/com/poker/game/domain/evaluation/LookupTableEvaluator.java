@@ -0,0 +1,285 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.CardSet;
+import com.poker.shared.domain.valueobject.Rank;
+import java.util.List;
+
+/**
+ * Table-driven Texas Hold'em evaluator.
+ * Scores 5 to 7 cards with a handful of array lookups instead of expanding
+ * every 5-card combination through the detector chain. Works directly on
+ * CardSet masks, where each suit's 13 bits are already its rank mask.
+ *
+ * Two tables are precomputed once per JVM:
+ * - FLUSH_TABLE, indexed by the 13-bit rank mask of the flush suit.
+ * - NO_FLUSH_TABLES, indexed by a perfect hash of the rank histogram
+ *   (each rank count is a base-5 digit, ranked among all histograms with
+ *   the same number of cards).
+ *
+ * With at most 7 cards a flush can never coexist with a full house or quads,
+ * so a flush lookup is always the final answer when one suit has 5+ cards.
+ *
+ * Scores are packed HandValue ints, so a higher score is always a stronger hand.
+ */
+public class LookupTableEvaluator implements HandEvaluationStrategy {
+
+    private static final int RANKS = 13;
+    private static final int MAX_CARDS = 7;
+    private static final int MIN_CARDS = 5;
+    private static final int RANK_MASK = (1 << RANKS) - 1;
+
+    // HISTOGRAMS[ranks][cards] - number of rank histograms (0..4 per rank) holding that many cards
+    private static final int[][] HISTOGRAMS = new int[RANKS + 1][MAX_CARDS + 1];
+    // HIST_OFFSETS[position][remainingCards][count] - hash contribution of a rank count
+    private static final int[][][] HIST_OFFSETS = new int[RANKS][MAX_CARDS + 1][5];
+    private static final int[] FLUSH_TABLE = new int[1 << RANKS];
+    private static final int[][] NO_FLUSH_TABLES = new int[MAX_CARDS + 1][];
+
+    static {
+        buildHistogramOffsets();
+        buildFlushTable();
+        for (int cards = MIN_CARDS; cards <= MAX_CARDS; cards++) {
+            buildNoFlushTable(cards);
+        }
+    }
+
+    @Override
+    public PokerHand evaluate(List<Card> cards) {
+        if (cards.size() != 7) {
+            throw new IllegalArgumentException("Texas Hold'em requires exactly 7 cards (2 hole + 5 community)");
+        }
+        return PokerHand.fromValue(evaluateValue(cards), cards);
+    }
+
+    /**
+     * Scores 5 to 7 cards without allocating.
+     *
+     * @return packed HandValue, higher is stronger
+     */
+    @Override
+    public int evaluateValue(List<Card> cards) {
+        long mask = 0L;
+        for (int i = 0; i < cards.size(); i++) {
+            mask |= cards.get(i).getMask();
+        }
+        if (Long.bitCount(mask) != cards.size()) {
+            throw new IllegalArgumentException("Duplicate cards in: " + cards);
+        }
+        return evaluateMask(mask);
+    }
+
+    @Override
+    public int evaluateValue(CardSet cards) {
+        return evaluateMask(cards.mask());
+    }
+
+    /**
+     * Scores a CardSet mask holding 5 to 7 cards without allocating.
+     *
+     * @return packed HandValue, higher is stronger
+     */
+    @Override
+    public int evaluateMask(long mask) {
+        int size = Long.bitCount(mask);
+        if (size < MIN_CARDS || size > MAX_CARDS) {
+            throw new IllegalArgumentException("Expected 5 to 7 cards, got " + size);
+        }
+
+        for (int suit = 0; suit < 4; suit++) {
+            int suitRanks = (int) (mask >>> (RANKS * suit)) & RANK_MASK;
+            if (Integer.bitCount(suitRanks) >= 5) {
+                return FLUSH_TABLE[suitRanks];
+            }
+        }
+
+        long rankCounts = 0L;   // 3 bits per rank
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            int rank = Long.numberOfTrailingZeros(remaining) % RANKS;
+            rankCounts += 1L << (3 * rank);
+        }
+        return NO_FLUSH_TABLES[size][histogramHash(rankCounts, size)];
+    }
+
+    /**
+     * Scores 5 to 7 cards from state maintained incrementally by the caller:
+     * the card mask, packed rank counts (3 bits per rank ordinal) and the suit
+     * holding five or more cards (-1 if none). Skips the per-card passes of evaluateMask.
+     */
+    static int evaluateState(long mask, long rankCounts, int size, int flushSuit) {
+        if (flushSuit >= 0) {
+            return FLUSH_TABLE[(int) (mask >>> (RANKS * flushSuit)) & RANK_MASK];
+        }
+        return NO_FLUSH_TABLES[size][histogramHash(rankCounts, size)];
+    }
+
+    private static int histogramHash(long rankCounts, int size) {
+        int hash = 0;
+        int remaining = size;
+        for (int rank = RANKS - 1; rank >= 0; rank--) {
+            int count = (int) (rankCounts >>> (3 * rank)) & 0x7;
+            hash += HIST_OFFSETS[rank][remaining][count];
+            remaining -= count;
+        }
+        return hash;
+    }
+
+    // ---------------------------------------------------------------------
+    // Table construction
+    // ---------------------------------------------------------------------
+
+    private static void buildHistogramOffsets() {
+        HISTOGRAMS[0][0] = 1;
+        for (int n = 1; n <= RANKS; n++) {
+            for (int k = 0; k <= MAX_CARDS; k++) {
+                for (int count = 0; count <= 4 && count <= k; count++) {
+                    HISTOGRAMS[n][k] += HISTOGRAMS[n - 1][k - count];
+                }
+            }
+        }
+        for (int rank = 0; rank < RANKS; rank++) {
+            for (int remaining = 0; remaining <= MAX_CARDS; remaining++) {
+                int offset = 0;
+                for (int count = 0; count <= 4; count++) {
+                    HIST_OFFSETS[rank][remaining][count] = offset;
+                    if (count <= remaining) {
+                        offset += HISTOGRAMS[rank][remaining - count];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void buildFlushTable() {
+        for (int mask = 0; mask <= RANK_MASK; mask++) {
+            if (Integer.bitCount(mask) < 5) {
+                continue;
+            }
+            int straightHigh = highestStraight(mask);
+            if (straightHigh >= 0) {
+                FLUSH_TABLE[mask] = straightScore(HandRank.STRAIGHT_FLUSH, straightHigh);
+            } else {
+                FLUSH_TABLE[mask] = pack(HandRank.FLUSH, topRanks(mask, 5, new int[5], 0));
+            }
+        }
+    }
+
+    private static void buildNoFlushTable(int size) {
+        int[] table = new int[HISTOGRAMS[RANKS][size]];
+        int[] counts = new int[RANKS];
+        fillNoFlush(table, counts, RANKS - 1, size, size);
+        NO_FLUSH_TABLES[size] = table;
+    }
+
+    private static void fillNoFlush(int[] table, int[] counts, int rank, int remaining, int size) {
+        if (rank < 0) {
+            if (remaining == 0) {
+                long packed = 0L;
+                for (int r = 0; r < RANKS; r++) {
+                    packed += (long) counts[r] << (3 * r);
+                }
+                table[histogramHash(packed, size)] = scoreHistogram(counts);
+            }
+            return;
+        }
+        for (int count = 0; count <= 4 && count <= remaining; count++) {
+            counts[rank] = count;
+            fillNoFlush(table, counts, rank - 1, remaining - count, size);
+        }
+        counts[rank] = 0;
+    }
+
+    private static int scoreHistogram(int[] counts) {
+        int quads = -1;
+        int trips = -1;
+        int secondTrips = -1;
+        int highPair = -1;
+        int lowPair = -1;
+        int presence = 0;
+        for (int rank = RANKS - 1; rank >= 0; rank--) {
+            int count = counts[rank];
+            if (count > 0) {
+                presence |= 1 << rank;
+            }
+            if (count == 4 && quads < 0) {
+                quads = rank;
+            } else if (count == 3) {
+                if (trips < 0) {
+                    trips = rank;
+                } else if (secondTrips < 0) {
+                    secondTrips = rank;
+                }
+            } else if (count == 2) {
+                if (highPair < 0) {
+                    highPair = rank;
+                } else if (lowPair < 0) {
+                    lowPair = rank;
+                }
+            }
+        }
+
+        if (quads >= 0) {
+            int kicker = topRanks(presence & ~(1 << quads), 1, new int[1], 0)[0];
+            return pack(HandRank.FOUR_OF_A_KIND, new int[] {quads, quads, quads, quads, kicker});
+        }
+        if (trips >= 0 && (secondTrips >= 0 || highPair >= 0)) {
+            int pair = Math.max(secondTrips, highPair);
+            return pack(HandRank.FULL_HOUSE, new int[] {trips, trips, trips, pair, pair});
+        }
+        int straightHigh = highestStraight(presence);
+        if (straightHigh >= 0) {
+            return straightScore(HandRank.STRAIGHT, straightHigh);
+        }
+        if (trips >= 0) {
+            int[] ranks = {trips, trips, trips, 0, 0};
+            return pack(HandRank.THREE_OF_A_KIND, topRanks(presence & ~(1 << trips), 2, ranks, 3));
+        }
+        if (highPair >= 0 && lowPair >= 0) {
+            int[] ranks = {highPair, highPair, lowPair, lowPair, 0};
+            int kickers = presence & ~(1 << highPair) & ~(1 << lowPair);
+            return pack(HandRank.TWO_PAIR, topRanks(kickers, 1, ranks, 4));
+        }
+        if (highPair >= 0) {
+            int[] ranks = {highPair, highPair, 0, 0, 0};
+            return pack(HandRank.ONE_PAIR, topRanks(presence & ~(1 << highPair), 3, ranks, 2));
+        }
+        return pack(HandRank.HIGH_CARD, topRanks(presence, 5, new int[5], 0));
+    }
+
+    /**
+     * Returns the ordinal of the highest card of the best straight in the mask,
+     * or -1 when there is none. The wheel (A-2-3-4-5) reports FIVE.
+     */
+    private static int highestStraight(int mask) {
+        for (int high = RANKS - 1; high >= 4; high--) {
+            int run = 0x1F << (high - 4);
+            if ((mask & run) == run) {
+                return high;
+            }
+        }
+        int wheel = (1 << Rank.ACE.ordinal()) | 0xF;
+        return (mask & wheel) == wheel ? Rank.FIVE.ordinal() : -1;
+    }
+
+    private static int straightScore(HandRank handRank, int high) {
+        if (high == Rank.FIVE.ordinal()) {
+            // 5-4-3-2-A, matching the order StraightDetector uses
+            return pack(handRank, new int[] {3, 2, 1, 0, Rank.ACE.ordinal()});
+        }
+        return pack(handRank, new int[] {high, high - 1, high - 2, high - 3, high - 4});
+    }
+
+    private static int[] topRanks(int mask, int count, int[] into, int from) {
+        int filled = 0;
+        for (int rank = RANKS - 1; rank >= 0 && filled < count; rank--) {
+            if ((mask & (1 << rank)) != 0) {
+                into[from + filled++] = rank;
+            }
+        }
+        return into;
+    }
+
+    private static int pack(HandRank handRank, int[] ranks) {
+        return HandValue.of(handRank, ranks[0], ranks[1], ranks[2], ranks[3], ranks[4]);
+    }
+}
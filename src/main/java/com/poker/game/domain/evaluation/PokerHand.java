@@ -1,36 +1,63 @@
 package com.poker.game.domain.evaluation;
 
 import com.poker.shared.domain.valueobject.Card;
-import com.poker.shared.domain.valueobject.Rank;
+import com.poker.shared.domain.valueobject.Suit;
 import java.util.*;
 
 /**
  * Immutable value object representing a poker hand with its rank and cards.
- * Implements Comparable for proper hand comparison including tiebreakers.
+ * Implements Comparable for proper hand comparison including tiebreakers,
+ * using the packed HandValue so a comparison is one integer compare.
  * 
  * REUSED from existing implementation - proven design with updated imports.
  */
 public class PokerHand implements Comparable<PokerHand> {
     private final HandRank rank;
     private final List<Card> cards;
-    private final List<Rank> ranksForComparison;
+    private final int value;
 
     public PokerHand(HandRank rank, List<Card> cards) {
         this.rank = rank;
         this.cards = List.copyOf(cards); // Immutable copy
-        this.ranksForComparison = extractRanksForComparison(cards);
+        this.value = HandValue.of(rank, cards);
     }
 
     /**
-     * Extracts ranks in order of importance for tiebreaking.
-     * For example, in a pair, the pair rank comes first, then kickers.
+     * Builds the hand described by a packed value, picking its five cards from
+     * the evaluated cards. Used when an event actually needs the cards.
      */
-    private List<Rank> extractRanksForComparison(List<Card> cards) {
-        List<Rank> ranks = new ArrayList<>();
+    public static PokerHand fromValue(int value, List<Card> evaluatedCards) {
+        HandRank handRank = HandValue.handRank(value);
+        Suit flushSuit = null;
+        if (handRank == HandRank.FLUSH || handRank == HandRank.STRAIGHT_FLUSH) {
+            flushSuit = findFlushSuit(evaluatedCards);
+        }
+
+        List<Card> bestCards = new ArrayList<>(5);
+        boolean[] used = new boolean[evaluatedCards.size()];
+        for (int slot = 0; slot < 5; slot++) {
+            int rankOrdinal = HandValue.rankAt(value, slot);
+            for (int i = 0; i < evaluatedCards.size(); i++) {
+                Card card = evaluatedCards.get(i);
+                if (!used[i] && card.getRank().ordinal() == rankOrdinal
+                        && (flushSuit == null || card.getSuit() == flushSuit)) {
+                    used[i] = true;
+                    bestCards.add(card);
+                    break;
+                }
+            }
+        }
+        return new PokerHand(handRank, bestCards);
+    }
+
+    private static Suit findFlushSuit(List<Card> cards) {
+        int[] counts = new int[4];
         for (Card card : cards) {
-            ranks.add(card.getRank());
+            if (++counts[card.getSuit().ordinal()] >= 5) {
+                return card.getSuit();
+            }
         }
-        return List.copyOf(ranks);
+        throw new IllegalArgumentException("No flush suit in: " + cards);
     }
 
     public HandRank getRank() {
@@ -41,33 +68,16 @@ public class PokerHand implements Comparable<PokerHand> {
         return cards;
     }
 
-    @Override
-    public int compareTo(PokerHand other) {
-        // First compare by hand rank
-        int rankComparison = Integer.compare(this.rank.getValue(), other.rank.getValue());
-        if (rankComparison != 0) {
-            return rankComparison;
-        }
-
-        // If same rank, compare card by card (kickers)
-        for (int i = 0; i < Math.min(ranksForComparison.size(), other.ranksForComparison.size()); i++) {
-            int cardComparison = Integer.compare(
-                getRankValue(ranksForComparison.get(i)),
-                getRankValue(other.ranksForComparison.get(i))
-            );
-            if (cardComparison != 0) {
-                return cardComparison;
-            }
-        }
-
-        return 0; // Hands are equal
-    }
-
     /**
-     * Gets numeric value for rank comparison (ACE is highest).
+     * Packed hand strength, see HandValue. Higher is stronger.
      */
-    private int getRankValue(Rank rank) {
-        return rank.ordinal();
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public int compareTo(PokerHand other) {
+        return Integer.compare(this.value, other.value);
     }
 
     @Override
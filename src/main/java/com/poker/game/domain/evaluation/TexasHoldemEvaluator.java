@@ -8,6 +8,8 @@ import java.util.List;
 /**
  * Texas Hold'em specific hand evaluator.
  * Uses a chain of responsibility pattern with hand detectors to find the best 5-card hand.
+ * The detectors read the 7 cards' features directly (suit counts, rank mask, histogram)
+ * instead of evaluating the 21 five-card subsets.
  * 
  * REUSED from existing implementation - sophisticated, well-tested algorithm.
  */
@@ -42,35 +44,31 @@ public class TexasHoldemEvaluator implements HandEvaluationStrategy {
             throw new IllegalArgumentException("Texas Hold'em requires exactly 7 cards (2 hole + 5 community)");
         }
 
-        // Generate all possible 5-card combinations
-        List<List<Card>> combinations = CombinationUtils.generateFiveCardCombinations(cards);
-
-        PokerHand bestHand = null;
-
-        // Evaluate each combination
-        for (List<Card> combination : combinations) {
-            PokerHand hand = evaluateFiveCards(combination);
-            
-            if (bestHand == null || hand.compareTo(bestHand) > 0) {
-                bestHand = hand;
-            }
-        }
+        // Detectors work on all 7 cards at once, strongest hand type first,
+        // so the first match is the best hand: no 5-card subsets are enumerated
+        return detectBestHand(HandFeatures.of(cards));
+    }
 
-        return bestHand;
+    /**
+     * Scores 5 to 7 cards, so a hand can be valued before the river (flop, turn).
+     */
+    @Override
+    public int evaluateValue(List<Card> cards) {
+        return detectBestHand(HandFeatures.of(cards)).getValue();
     }
 
     /**
-     * Evaluates exactly 5 cards using the chain of detectors.
+     * Runs the chain of detectors over precomputed features of 5 to 7 cards.
      */
-    private PokerHand evaluateFiveCards(List<Card> fiveCards) {
+    private PokerHand detectBestHand(HandFeatures features) {
         for (HandDetector detector : detectors) {
-            var result = detector.detect(fiveCards);
+            var result = detector.detect(features);
             if (result.isPresent()) {
                 return result.get();
             }
         }
         
         // This should never happen if HighCardDetector is implemented correctly
-        throw new IllegalStateException("No hand detected for: " + fiveCards);
+        throw new IllegalStateException("No hand detected for: " + features.getCards());
     }
 }
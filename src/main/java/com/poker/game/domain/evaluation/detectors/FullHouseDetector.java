@@ -1,11 +1,10 @@
 package com.poker.game.domain.evaluation.detectors;
 
-import com.poker.shared.domain.valueobject.Card;
-import com.poker.shared.domain.valueobject.Rank;
 import com.poker.game.domain.evaluation.HandDetector;
+import com.poker.game.domain.evaluation.HandFeatures;
 import com.poker.game.domain.evaluation.HandRank;
 import com.poker.game.domain.evaluation.PokerHand;
-import java.util.*;
+import java.util.Optional;
 
 /**
  * Detects Full House hands (three of a kind + pair).
@@ -14,41 +13,21 @@ import java.util.*;
 public class FullHouseDetector implements HandDetector {
     
     @Override
-    public Optional<PokerHand> detect(List<Card> cards) {
-        if (cards.size() != 5) {
+    public Optional<PokerHand> detect(HandFeatures features) {
+        int trips = features.ranksWithCount(3);
+        if (trips == 0) {
             return Optional.empty();
         }
 
-        Map<Rank, List<Card>> rankGroups = groupByRank(cards);
-
-        List<Card> threeKind = null;
-        List<Card> pair = null;
-
-        // Find three-of-a-kind and pair
-        for (List<Card> group : rankGroups.values()) {
-            if (group.size() == 3) {
-                threeKind = group;
-            } else if (group.size() == 2) {
-                pair = group;
-            }
-        }
-
-        if (threeKind == null || pair == null) {
+        // The pair may come from a second three-of-a-kind
+        int tripRank = HandFeatures.highestRank(trips);
+        int pairs = features.ranksWithCount(2) | (trips & ~(1 << tripRank));
+        if (pairs == 0) {
             return Optional.empty();
         }
 
-        // Build final hand: three-of-a-kind first, then pair
-        List<Card> handCards = new ArrayList<>(threeKind);
-        handCards.addAll(pair);
-
-        return Optional.of(new PokerHand(HandRank.FULL_HOUSE, handCards));
-    }
-
-    private Map<Rank, List<Card>> groupByRank(List<Card> cards) {
-        Map<Rank, List<Card>> groups = new HashMap<>();
-        for (Card card : cards) {
-            groups.computeIfAbsent(card.getRank(), k -> new ArrayList<>()).add(card);
-        }
-        return groups;
+        // Three-of-a-kind first, then pair
+        int pairRank = HandFeatures.highestRank(pairs);
+        return Optional.of(new PokerHand(HandRank.FULL_HOUSE, features.groupedHand(tripRank, 3, pairRank, 2)));
     }
 }
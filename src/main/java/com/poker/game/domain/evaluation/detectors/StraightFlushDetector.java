@@ -1,37 +1,33 @@
 package com.poker.game.domain.evaluation.detectors;
 
-import com.poker.shared.domain.valueobject.Card;
 import com.poker.game.domain.evaluation.HandDetector;
+import com.poker.game.domain.evaluation.HandFeatures;
 import com.poker.game.domain.evaluation.HandRank;
 import com.poker.game.domain.evaluation.PokerHand;
-import java.util.*;
+import com.poker.shared.domain.valueobject.Suit;
+import java.util.Optional;
 
 /**
  * Detects Straight Flush hands (five consecutive ranks of the same suit).
  * This is the highest-ranking hand in poker.
- * 
  * REUSED from existing implementation.
  */
 public class StraightFlushDetector implements HandDetector {
     
-    private final StraightDetector straightDetector = new StraightDetector();
-    private final FlushDetector flushDetector = new FlushDetector();
-
     @Override
-    public Optional<PokerHand> detect(List<Card> cards) {
-        if (cards.size() != 5) {
+    public Optional<PokerHand> detect(HandFeatures features) {
+        // Must be both a flush and a straight, within the flush suit
+        Optional<Suit> flushSuit = features.flushSuit();
+        if (flushSuit.isEmpty()) {
             return Optional.empty();
         }
 
-        // Must be both a flush and a straight
-        Optional<PokerHand> flush = flushDetector.detect(cards);
-        Optional<PokerHand> straight = straightDetector.detect(cards);
-
-        if (flush.isPresent() && straight.isPresent()) {
-            // Use the same card order as the straight
-            return Optional.of(new PokerHand(HandRank.STRAIGHT_FLUSH, straight.get().getCards()));
+        int straights = HandFeatures.straightMask(features.suitRankMask(flushSuit.get()));
+        if (straights == 0) {
+            return Optional.empty();
         }
 
-        return Optional.empty();
+        int topRank = HandFeatures.highestRank(straights);
+        return Optional.of(new PokerHand(HandRank.STRAIGHT_FLUSH, features.straightCards(topRank, flushSuit.get())));
     }
 }
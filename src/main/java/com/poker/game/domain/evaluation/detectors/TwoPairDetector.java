@@ -1,11 +1,10 @@
 package com.poker.game.domain.evaluation.detectors;
 
-import com.poker.shared.domain.valueobject.Card;
-import com.poker.shared.domain.valueobject.Rank;
 import com.poker.game.domain.evaluation.HandDetector;
+import com.poker.game.domain.evaluation.HandFeatures;
 import com.poker.game.domain.evaluation.HandRank;
 import com.poker.game.domain.evaluation.PokerHand;
-import java.util.*;
+import java.util.Optional;
 
 /**
  * Detects Two Pair hands (two different pairs).
@@ -14,54 +13,16 @@ import java.util.*;
 public class TwoPairDetector implements HandDetector {
     
     @Override
-    public Optional<PokerHand> detect(List<Card> cards) {
-        if (cards.size() != 5) {
+    public Optional<PokerHand> detect(HandFeatures features) {
+        // Find at least two pairs; with 7 cards a third pair can only be a kicker
+        int pairs = features.ranksWithCount(2);
+        if (Integer.bitCount(pairs) < 2) {
             return Optional.empty();
         }
 
-        Map<Rank, List<Card>> rankGroups = groupByRank(cards);
-
-        // Find exactly two pairs
-        List<List<Card>> pairs = new ArrayList<>();
-        for (List<Card> group : rankGroups.values()) {
-            if (group.size() == 2) {
-                pairs.add(group);
-            }
-        }
-
-        if (pairs.size() != 2) {
-            return Optional.empty();
-        }
-
-        // Sort pairs by rank (higher pair first)
-        pairs.sort((p1, p2) -> Integer.compare(
-            p2.getFirst().getRank().getValue(),
-            p1.getFirst().getRank().getValue()
-        ));
-
-        // Find the kicker
-        List<Card> kickers = new ArrayList<>();
-        for (Card card : cards) {
-            boolean isPart = pairs.stream().anyMatch(pair -> pair.contains(card));
-            if (!isPart) {
-                kickers.add(card);
-            }
-        }
-
-        // Build final hand: higher pair, lower pair, kicker
-        List<Card> handCards = new ArrayList<>();
-        handCards.addAll(pairs.getFirst());
-        handCards.addAll(pairs.get(1));
-        handCards.addAll(kickers);
-
-        return Optional.of(new PokerHand(HandRank.TWO_PAIR, handCards));
-    }
-
-    private Map<Rank, List<Card>> groupByRank(List<Card> cards) {
-        Map<Rank, List<Card>> groups = new HashMap<>();
-        for (Card card : cards) {
-            groups.computeIfAbsent(card.getRank(), k -> new ArrayList<>()).add(card);
-        }
-        return groups;
+        // Higher pair, lower pair, kicker
+        int highPair = HandFeatures.highestRank(pairs);
+        int lowPair = HandFeatures.highestRank(pairs & ~(1 << highPair));
+        return Optional.of(new PokerHand(HandRank.TWO_PAIR, features.groupedHand(highPair, 2, lowPair, 2)));
     }
 }
@@ -0,0 +1,29 @@
+package com.poker.game.domain.events;
+
+import java.util.List;
+
+import com.poker.shared.domain.enums.EventTypeEnum;
+import com.poker.shared.domain.events.DomainEvent;
+
+/**
+ * Domain event fired when live equity has been (re)calculated, e.g. after an all-in.
+ */
+public class EquityUpdatedEvent extends DomainEvent {
+    private final EquityUpdatedEventData data;
+
+    public EquityUpdatedEvent(String gameId, String phase, long samples, boolean exact,
+                              List<PlayerEquityData> players) {
+        super(EventTypeEnum.EQUITY_UPDATED);
+        this.data = new EquityUpdatedEventData(gameId, phase, samples, exact, players);
+    }
+
+    @Override
+    public EventTypeEnum eventType() {
+        return EventTypeEnum.EQUITY_UPDATED;
+    }
+
+    @Override
+    public EquityUpdatedEventData getData() {
+        return data;
+    }
+}
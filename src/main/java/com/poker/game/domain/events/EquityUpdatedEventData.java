@@ -0,0 +1,47 @@
+package com.poker.game.domain.events;
+
+import java.util.List;
+
+/**
+ * Data class for EquityUpdatedEvent.
+ * Contains the equity of every player still in the hand.
+ */
+public class EquityUpdatedEventData {
+    private final String gameId;
+    private final String phase;
+    private final long samples;
+    private final boolean exact;
+    private final List<PlayerEquityData> players;
+
+    public EquityUpdatedEventData(String gameId, String phase, long samples, boolean exact,
+                                  List<PlayerEquityData> players) {
+        this.gameId = gameId;
+        this.phase = phase;
+        this.samples = samples;
+        this.exact = exact;
+        this.players = List.copyOf(players);
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * True when every board completion was enumerated, false for a Monte Carlo estimate.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    public List<PlayerEquityData> getPlayers() {
+        return players;
+    }
+}
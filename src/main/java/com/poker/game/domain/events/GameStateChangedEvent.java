@@ -19,9 +19,26 @@ public class GameStateChangedEvent extends DomainEvent {
         int pot,
         int currentBet,
         List<String> communityCards
+    ) {
+        this(gameId, newState, currentPlayerId, currentPlayerName, pot, currentBet, communityCards, null);
+    }
+
+    /**
+     * Variant sent privately to a player, carrying the rank of their current best hand.
+     */
+    public GameStateChangedEvent(
+        String gameId,
+        String newState, 
+        String currentPlayerId,
+        String currentPlayerName,
+        int pot,
+        int currentBet,
+        List<String> communityCards,
+        String currentBestHand
     ) {
         super(EventTypeEnum.GAME_STATE_CHANGED);
-        this.data = new GameStateChangedEventData(gameId, newState, currentPlayerId, currentPlayerName, pot, currentBet, communityCards);
+        this.data = new GameStateChangedEventData(gameId, newState, currentPlayerId, currentPlayerName, pot, currentBet,
+            communityCards, currentBestHand);
     }
 
     @Override
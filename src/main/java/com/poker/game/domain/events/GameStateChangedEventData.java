@@ -14,9 +14,11 @@ public class GameStateChangedEventData {
     private final int pot;
     private final int currentBet;
     private final List<String> communityCards;
+    private final String currentBestHand;
 
     public GameStateChangedEventData(String gameId, String newState, String currentPlayerId,
-                                     String currentPlayerName, int pot, int currentBet, List<String> communityCards) {
+                                     String currentPlayerName, int pot, int currentBet, List<String> communityCards,
+                                     String currentBestHand) {
         this.gameId = gameId;
         this.newState = newState;
         this.currentPlayerId = currentPlayerId;
@@ -24,6 +26,7 @@ public class GameStateChangedEventData {
         this.pot = pot;
         this.currentBet = currentBet;
         this.communityCards = communityCards;
+        this.currentBestHand = currentBestHand;
     }
 
     public String getGameId() {
@@ -53,4 +56,11 @@ public class GameStateChangedEventData {
     public List<String> getCommunityCards() {
         return communityCards;
     }
+
+    /**
+     * Rank of the recipient's best hand so far, only set on events sent to a single player.
+     */
+    public String getCurrentBestHand() {
+        return currentBestHand;
+    }
 }
@@ -0,0 +1,41 @@
+package com.poker.game.domain.events;
+
+/**
+ * Data class for one player's equity in an EquityUpdatedEvent.
+ * Probabilities are in the range 0..1.
+ */
+public class PlayerEquityData {
+    private final String playerId;
+    private final String playerName;
+    private final double win;
+    private final double tie;
+    private final double equity;
+
+    public PlayerEquityData(String playerId, String playerName, double win, double tie, double equity) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.win = win;
+        this.tie = tie;
+        this.equity = equity;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public double getWin() {
+        return win;
+    }
+
+    public double getTie() {
+        return tie;
+    }
+
+    public double getEquity() {
+        return equity;
+    }
+}
@@ -0,0 +1,30 @@
+package com.poker.game.domain.events;
+
+import com.poker.shared.domain.enums.EventTypeEnum;
+import com.poker.shared.domain.events.DomainEvent;
+
+/**
+ * Domain event fired when a player's turn clock starts, when they fall back on their
+ * time bank, and when they run out of time (TURN_TIMER_STARTED, TIME_BANK_STARTED,
+ * TURN_TIMED_OUT). Carries the deadline so clients can render the countdown themselves.
+ */
+public class TurnTimerEvent extends DomainEvent {
+    private final TurnTimerEventData data;
+
+    public TurnTimerEvent(
+        EventTypeEnum eventType,
+        String gameId,
+        String playerId,
+        long durationMillis,
+        long timeBankMillis
+    ) {
+        super(eventType);
+        long deadline = System.currentTimeMillis() + durationMillis;
+        this.data = new TurnTimerEventData(gameId, playerId, durationMillis, deadline, timeBankMillis);
+    }
+
+    @Override
+    public TurnTimerEventData getData() {
+        return data;
+    }
+}
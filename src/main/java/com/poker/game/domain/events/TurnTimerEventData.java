@@ -0,0 +1,48 @@
+package com.poker.game.domain.events;
+
+/**
+ * Data class for TurnTimerEvent.
+ * Contains the player on the clock and how long they have left to act.
+ */
+public class TurnTimerEventData {
+    private final String gameId;
+    private final String playerId;
+    private final long durationMillis;
+    private final long deadlineEpochMillis;
+    private final long timeBankMillis;
+
+    public TurnTimerEventData(String gameId, String playerId, long durationMillis,
+                              long deadlineEpochMillis, long timeBankMillis) {
+        this.gameId = gameId;
+        this.playerId = playerId;
+        this.durationMillis = durationMillis;
+        this.deadlineEpochMillis = deadlineEpochMillis;
+        this.timeBankMillis = timeBankMillis;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Time given for this phase of the turn; 0 once the player has timed out.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getDeadlineEpochMillis() {
+        return deadlineEpochMillis;
+    }
+
+    /**
+     * Time bank the player has left, not counting the phase in progress.
+     */
+    public long getTimeBankMillis() {
+        return timeBankMillis;
+    }
+}
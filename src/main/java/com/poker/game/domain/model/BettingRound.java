@@ -41,9 +41,7 @@ public class BettingRound {
                 if (!player.canAfford(amountToCall)) {
                     throw new IllegalActionException("Insufficient chips to call");
                 }
-                player.subtractChips(amountToCall);
-                round.addToPot(amountToCall);
-                round.recordPlayerBet(player, amountToCall);
+                round.bet(player, amountToCall);
             }
                 
             case RAISE -> {
@@ -56,18 +54,14 @@ public class BettingRound {
                 if (!player.canAfford(totalRaiseAmount)) {
                     throw new IllegalActionException("Insufficient chips to raise");
                 }
-                player.subtractChips(totalRaiseAmount);
-                round.addToPot(totalRaiseAmount);
-                round.recordPlayerBet(player, totalRaiseAmount);
+                round.bet(player, totalRaiseAmount);
                 currentBet = amount;
                 round.setCurrentBet(amount);
             }
                 
             case ALL_IN -> {
                 int allInAmount = player.getChipsAmount();
-                player.subtractChips(allInAmount);
-                round.addToPot(allInAmount);
-                round.recordPlayerBet(player, allInAmount);
+                round.bet(player, allInAmount);
                 
                 int playerTotalBet = round.getPlayerBet(player);
                 if (playerTotalBet > currentBet) {
@@ -1,17 +1,28 @@
 package com.poker.game.domain.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import com.poker.game.domain.evaluation.HandEvaluationStrategy;
-import com.poker.game.domain.evaluation.PokerHand;
-import com.poker.game.domain.evaluation.TexasHoldemEvaluator;
+import com.poker.game.domain.evaluation.HandEvaluatorType;
+import com.poker.game.domain.evaluation.HandRank;
+import com.poker.game.domain.evaluation.IncrementalHandEvaluator;
 import com.poker.game.domain.exception.InvalidGameStateException;
 import com.poker.player.domain.model.Player;
+import com.poker.player.domain.model.PlayerId;
+import com.poker.shared.domain.ledger.ChipLedger;
+import com.poker.shared.domain.random.HandSeed;
+import com.poker.shared.domain.random.RngMode;
+import com.poker.shared.domain.random.RngProvider;
+import com.poker.shared.domain.random.ShuffledDeckPool;
 import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.CardSet;
 import com.poker.shared.domain.valueobject.Deck;
 
 /**
@@ -19,32 +30,65 @@ import com.poker.shared.domain.valueobject.Deck;
  * Manages the complete lifecycle of a Texas Hold'em poker game.
  * 
  * MERGED from PokerGame + Table with proper state management.
+ *
+ * The seating is fixed for the life of the game: players are looked up by id through
+ * a seat index built once, and getPlayers() is a read-only view, not a copy.
+ * The players' chips are held in the table's ChipLedger, seat by seat, for as long as
+ * they are at this table.
  */
 public class Game {
     private final GameId id;
     private GameState state;
     private final Blinds blinds;
-    private Deck deck;
+    private final Deck deck;
+    private final RngProvider rng;
+    private final ShuffledDeckPool deckPool; // null: always shuffle inline
+    private HandSeed handSeed;
     private final List<Player> players;
+    private final List<Player> playersView;
+    private final Map<PlayerId, Integer> seatIndex;
+    private final ChipLedger ledger;
     private final List<Card> communityCards;
+    private CardSet communityCardSet;
     private Round currentRound;
-    private final HandEvaluationStrategy evaluator;
+    // One incremental evaluator per seat, same order as players
+    private final IncrementalHandEvaluator[] seatEvaluators;
+    private final PotSettlement settlement;
+    private ShowdownResult showdownResult;
     private int dealerPosition;
     private int currentPlayerIndex;
-    private Set<String> playersActedThisRound;
+    private long actedSeats; // Bit per seat that has acted in the current betting round
 
-    private Game(GameId id, List<Player> players, Blinds blinds) {
+    private Game(GameId id, List<Player> players, Blinds blinds, HandEvaluationStrategy evaluator,
+                 RngProvider rng, ShuffledDeckPool deckPool) {
         validatePlayers(players);
         this.id = id;
         this.players = new ArrayList<>(players);
+        this.playersView = Collections.unmodifiableList(this.players);
+        this.seatIndex = new HashMap<>();
+        for (int seat = 0; seat < this.players.size(); seat++) {
+            if (seatIndex.put(this.players.get(seat).getId(), seat) != null) {
+                throw new IllegalArgumentException("Player seated twice: " + this.players.get(seat).getId());
+            }
+        }
+        this.ledger = new ChipLedger(this.players.size());
+        for (int seat = 0; seat < this.players.size(); seat++) {
+            this.players.get(seat).seatAt(ledger, seat);
+        }
         this.blinds = blinds;
         this.state = GameState.WAITING;
         this.deck = new Deck();
+        this.rng = rng;
+        this.deckPool = deckPool;
         this.communityCards = new ArrayList<>();
-        this.evaluator = new TexasHoldemEvaluator();
+        this.communityCardSet = CardSet.empty();
+        this.seatEvaluators = new IncrementalHandEvaluator[this.players.size()];
+        for (int seat = 0; seat < seatEvaluators.length; seat++) {
+            seatEvaluators[seat] = new IncrementalHandEvaluator(evaluator);
+        }
+        this.settlement = new PotSettlement(this.players.size());
         this.dealerPosition = 0;
         this.currentPlayerIndex = 0;
-        this.playersActedThisRound = new HashSet<>();
     }
 
     private void validatePlayers(List<Player> players) {
@@ -56,29 +100,51 @@ public class Game {
     }
 
     public static Game create(List<Player> players, Blinds blinds) {
-        return new Game(GameId.generate(), players, blinds);
+        return create(players, blinds, HandEvaluatorType.configured().create());
+    }
+
+    public static Game create(List<Player> players, Blinds blinds, HandEvaluationStrategy evaluator) {
+        RngMode mode = RngMode.configured();
+        return new Game(GameId.generate(), players, blinds, evaluator, mode.create(), ShuffledDeckPool.shared(mode));
+    }
+
+    /**
+     * Creates a game shuffling with the given table RNG, e.g. a seeded or replaying one.
+     * Every hand is shuffled inline from it, never taken from the deck pool.
+     */
+    public static Game create(List<Player> players, Blinds blinds, HandEvaluationStrategy evaluator,
+                              RngProvider rng) {
+        return new Game(GameId.generate(), players, blinds, evaluator, rng, null);
     }
 
     public static Game reconstitute(GameId id, List<Player> players, Blinds blinds, 
                                     GameState state, int dealerPosition, int potAmount, int currentBet,
                                     Map<String, Integer> playerBets, List<Card> communityCards) {
-        Game game = new Game(id, players, blinds);
+        RngMode mode = RngMode.configured();
+        Game game = new Game(id, players, blinds, HandEvaluatorType.configured().create(),
+            mode.create(), ShuffledDeckPool.shared(mode));
         game.state = state;
         game.dealerPosition = dealerPosition;
         
-        // ALWAYS create a fresh deck when reconstituting - never restore deck state
+        // ALWAYS start from a full deck when reconstituting - never restore deck state
         // This prevents duplicate cards issue
-        game.deck = new Deck();
-        game.deck.shuffle();
+        game.deck.reset();
         
-        // Restore community cards
+        // Restore hole cards and community cards into the seat evaluators,
+        // and keep them out of the fresh deck so later streets cannot deal them again
+        for (int seat = 0; seat < game.players.size(); seat++) {
+            List<Card> holeCards = game.players.get(seat).getHand().getCards();
+            game.seatEvaluators[seat].addAll(holeCards);
+            game.deck.removeAll(holeCards);
+        }
         if (communityCards != null && !communityCards.isEmpty()) {
-            game.communityCards.addAll(communityCards);
+            communityCards.forEach(game::restoreCommunityCard);
+            game.deck.removeAll(communityCards);
         }
         
         // If game is in progress, initialize the current round with saved state
         if (state != GameState.WAITING && state != GameState.FINISHED) {
-            game.currentRound = new Round(players);
+            game.currentRound = new Round(game.players, game.seatIndex, game.ledger);
             // Restore pot and current bet
             if (potAmount > 0) {
                 game.currentRound.addToPot(potAmount);
@@ -88,7 +154,7 @@ public class Game {
             // Restore player bets
             if (playerBets != null && !playerBets.isEmpty()) {
                 for (Player player : players) {
-                    String playerId = player.getId().getValue().toString();
+                    String playerId = player.getId().asString();
                     int playerBet = playerBets.getOrDefault(playerId, 0);
                     if (playerBet > 0) {
                         // Don't use recordPlayerBet as that adds to existing - just set directly
@@ -99,7 +165,9 @@ public class Game {
             
             // Initialize turn tracking for reconstituted game
             game.currentPlayerIndex = (dealerPosition + 1) % players.size();
-            game.playersActedThisRound = new HashSet<>();
+            game.actedSeats = 0L;
+            // The restored bets were paid before the checkpoint
+            game.ledger.openHand(game.currentRound.contributionsBySeat());
         }
         
         return game;
@@ -120,15 +188,30 @@ public class Game {
     }
 
     private void resetForNewHand() {
-        this.deck = new Deck();
-        this.deck.shuffle();
+        // Reuse the table's deck: no new Deck or card list per hand. A pre-shuffled
+        // order is taken from the pool when one is ready, otherwise the table shuffles
+        // inline. Either way the seed is kept so the hand can be dealt again exactly
+        ShuffledDeckPool.ShuffledDeck pooled = deckPool == null ? null : deckPool.poll();
+        if (pooled != null) {
+            this.handSeed = pooled.handSeed();
+            this.deck.load(pooled.order());
+        } else {
+            this.handSeed = rng.nextHandSeed();
+            this.deck.reset(rng.forHand(handSeed));
+        }
         this.communityCards.clear();
-        this.currentRound = new Round(players);
+        this.communityCardSet = CardSet.empty();
+        this.currentRound = new Round(players, seatIndex, ledger);
+        ledger.openHand();
         
         players.forEach(p -> {
             p.clearHand();
             p.resetFoldedStatus();
         });
+        for (IncrementalHandEvaluator seatEvaluator : seatEvaluators) {
+            seatEvaluator.reset();
+        }
+        this.showdownResult = null;
     }
 
     private void postBlinds() {
@@ -138,27 +221,23 @@ public class Game {
         Player smallBlindPlayer = players.get(smallBlindPos);
         Player bigBlindPlayer = players.get(bigBlindPos);
         
-        smallBlindPlayer.subtractChips(blinds.getSmallBlind());
-        bigBlindPlayer.subtractChips(blinds.getBigBlind());
-        
-        currentRound.addToPot(blinds.getSmallBlind());
-        currentRound.addToPot(blinds.getBigBlind());
+        // Recorded as the blinds' bets so players don't have to re-pay them
+        currentRound.bet(smallBlindPlayer, blinds.getSmallBlind());
+        currentRound.bet(bigBlindPlayer, blinds.getBigBlind());
         currentRound.setCurrentBet(blinds.getBigBlind());
-        
-        // Record blind bets so players don't have to re-pay them
-        currentRound.setPlayerBet(smallBlindPlayer, blinds.getSmallBlind());
-        currentRound.setPlayerBet(bigBlindPlayer, blinds.getBigBlind());
     }
 
     private void dealHoleCards() {
         for (int i = 0; i < 2; i++) {
-            for (Player player : players) {
-                player.receiveCard(deck.dealCard());
+            for (int seat = 0; seat < players.size(); seat++) {
+                Card card = deck.dealCard();
+                players.get(seat).receiveCard(card);
+                seatEvaluators[seat].add(card);
             }
         }
         // Initialize first player to act (left of big blind in pre-flop)
         this.currentPlayerIndex = (dealerPosition + 3) % players.size();
-        this.playersActedThisRound = new HashSet<>();
+        this.actedSeats = 0L;
     }
 
     public void dealFlop() {
@@ -169,9 +248,9 @@ public class Game {
             throw new InvalidGameStateException("Cannot deal flop: Pre-flop betting round not complete");
         }
         deck.dealCard(); // Burn card
-        communityCards.add(deck.dealCard());
-        communityCards.add(deck.dealCard());
-        communityCards.add(deck.dealCard());
+        addCommunityCard(deck.dealCard());
+        addCommunityCard(deck.dealCard());
+        addCommunityCard(deck.dealCard());
         this.state = GameState.FLOP;
         startNewBettingRound();
     }
@@ -184,7 +263,7 @@ public class Game {
             throw new InvalidGameStateException("Cannot deal turn: Flop betting round not complete");
         }
         deck.dealCard(); // Burn card
-        communityCards.add(deck.dealCard());
+        addCommunityCard(deck.dealCard());
         this.state = GameState.TURN;
         startNewBettingRound();
     }
@@ -197,37 +276,141 @@ public class Game {
             throw new InvalidGameStateException("Cannot deal river: Turn betting round not complete");
         }
         deck.dealCard(); // Burn card
-        communityCards.add(deck.dealCard());
+        addCommunityCard(deck.dealCard());
         this.state = GameState.RIVER;
         startNewBettingRound();
     }
 
-    public Player determineWinner() {
-        this.state = GameState.SHOWDOWN;
-        
-        Player bestPlayer = null;
-        PokerHand bestHand = null;
+    private void addCommunityCard(Card card) {
+        communityCards.add(card);
+        communityCardSet = communityCardSet.with(card);
+        for (IncrementalHandEvaluator seatEvaluator : seatEvaluators) {
+            seatEvaluator.add(card);
+        }
+    }
 
-        for (Player player : players) {
-            if (player.isFolded()) continue;
+    /**
+     * Like addCommunityCard, but tolerates rows saved before duplicate cards were
+     * prevented: a board card a seat already holds is not fed to it twice.
+     */
+    private void restoreCommunityCard(Card card) {
+        communityCards.add(card);
+        communityCardSet = communityCardSet.with(card);
+        for (IncrementalHandEvaluator seatEvaluator : seatEvaluators) {
+            if (!seatEvaluator.getCards().contains(card)) {
+                seatEvaluator.add(card);
+            }
+        }
+    }
 
-            List<Card> allCards = new ArrayList<>(player.getHand().getCards());
-            allCards.addAll(communityCards);
+    /**
+     * Settles the hand: scores every player still in it once, from the seat evaluators,
+     * splits the pot into main and side pots by contribution and pays them out.
+     *
+     * @return The showdown result, also available from getShowdownResult()
+     */
+    public ShowdownResult determineShowdown() {
+        this.state = GameState.SHOWDOWN;
 
-            PokerHand hand = evaluator.evaluate(allCards);
-            
-            if (bestHand == null || hand.compareTo(bestHand) > 0) {
-                bestHand = hand;
-                bestPlayer = player;
-            }
+        int seats = players.size();
+        int[] handValues = new int[seats];
+        long liveSeats = 0L;
+        for (int seat = 0; seat < seats; seat++) {
+            if (players.get(seat).isFolded()) continue;
+
+            // Hole cards and board were absorbed as they were dealt
+            handValues[seat] = seatEvaluators[seat].currentValue();
+            liveSeats |= 1L << seat;
         }
 
-        if (bestPlayer != null) {
-            currentRound.distributePot(bestPlayer);
+        int potAmount = currentRound.getPotAmount();
+        int[] payouts = new int[seats];
+        int potCount = settlement.settle(currentRound.contributionsBySeat(), handValues, liveSeats,
+            potAmount, (dealerPosition + 1) % seats, payouts);
+
+        List<Player> contenders = new ArrayList<>(Long.bitCount(liveSeats));
+        int[] contenderValues = new int[Long.bitCount(liveSeats)];
+        int[] contenderWinnings = new int[contenderValues.length];
+        for (int seat = 0; seat < seats; seat++) {
+            if ((liveSeats & (1L << seat)) == 0) continue;
+            contenderValues[contenders.size()] = handValues[seat];
+            contenderWinnings[contenders.size()] = payouts[seat];
+            contenders.add(players.get(seat));
         }
 
+        this.showdownResult = ShowdownResult.of(contenders, contenderValues, contenderWinnings,
+            potAmount, potCount);
+        currentRound.distributePot(showdownResult);
+        checkChipsConserved(payouts);
+
         this.state = GameState.FINISHED;
-        return bestPlayer;
+        return showdownResult;
+    }
+
+    /**
+     * After a hand the pot must be paid out in full, the table must hold the chips it
+     * started the hand with, and each seat its starting stack minus its contribution
+     * plus its payout.
+     */
+    private void checkChipsConserved(int[] payouts) {
+        try {
+            ledger.checkSettlement(currentRound.contributionsBySeat(), payouts);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Chips not conserved at table " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Settles the hand and returns the first winner in seat order.
+     */
+    public Player determineWinner() {
+        return determineShowdown().getWinner();
+    }
+
+    /**
+     * Result of the last showdown of the current hand, or null before it.
+     */
+    public ShowdownResult getShowdownResult() {
+        return showdownResult;
+    }
+
+    /**
+     * Packed HandValue of the best hand the player can make with the cards dealt so far.
+     */
+    public int getCurrentHandValue(Player player) {
+        return seatEvaluators[seatOf(player)].currentValue();
+    }
+
+    /**
+     * Rank of the best hand the player can make with the cards dealt so far,
+     * e.g. ONE_PAIR pre-flop with a pocket pair.
+     */
+    public HandRank getCurrentHandRank(Player player) {
+        return seatEvaluators[seatOf(player)].currentRank();
+    }
+
+    private int seatOf(Player player) {
+        int seat = getSeat(player.getId());
+        if (seat < 0) {
+            throw new IllegalArgumentException("Player not in game: " + player.getId());
+        }
+        return seat;
+    }
+
+    /**
+     * Seat of the player in the game, or -1 if they are not in it.
+     */
+    public int getSeat(PlayerId playerId) {
+        Integer seat = seatIndex.get(playerId);
+        return seat == null ? -1 : seat;
+    }
+
+    /**
+     * The player with this id, looked up through the seat index.
+     */
+    public Optional<Player> findPlayer(PlayerId playerId) {
+        int seat = getSeat(playerId);
+        return seat < 0 ? Optional.empty() : Optional.of(players.get(seat));
     }
 
     public void advanceDealer() {
@@ -248,14 +431,14 @@ public class Game {
     public boolean isPlayerTurn(Player player) {
         if (players.isEmpty()) return false;
         Player currentPlayer = players.get(currentPlayerIndex);
-        return currentPlayer.getId().equals(player.getId()) && !player.isFolded();
+        return (currentPlayer == player || currentPlayer.getId().equals(player.getId())) && !player.isFolded();
     }
     
     /**
      * Record that a player has acted and advance to next player
      */
     public void recordPlayerAction(Player player) {
-        playersActedThisRound.add(player.getId().getValue().toString());
+        actedSeats |= 1L << seatOf(player);
         advanceTurn();
     }
     
@@ -279,30 +462,30 @@ public class Game {
     }
     
     /**
-     * Check if betting round is complete
+     * Check if betting round is complete: at most one player is left, or every player
+     * still in has acted and matched the current bet, all-in players excepted.
+     * Works on seat bitmasks, so it allocates nothing.
      */
-    private boolean isBettingRoundComplete() {
-        List<Player> activePlayers = currentRound.getActivePlayers();
+    public boolean isBettingRoundComplete() {
+        long activeSeats = currentRound.activeSeats();
         
         // If only one player remains, round is complete
-        if (activePlayers.size() <= 1) {
+        if (Long.bitCount(activeSeats) <= 1) {
             return true;
         }
         
-        // All active players must have acted
-        for (Player player : activePlayers) {
-            String playerId = player.getId().getValue().toString();
-            if (!playersActedThisRound.contains(playerId)) {
-                return false;
-            }
+        // Players who can still bet: all-in players have nothing left to act with
+        long canAct = activeSeats & ~currentRound.allInSeats();
+        
+        // All of them must have acted
+        if ((canAct & ~actedSeats) != 0) {
+            return false;
         }
         
-        // All active players must have equal bets (or be all-in)
+        // And matched the current bet
         int currentBet = currentRound.getCurrentBet();
-        for (Player player : activePlayers) {
-            int playerBet = currentRound.getPlayerBet(player);
-            // Player must match current bet OR be all-in (0 chips)
-            if (playerBet < currentBet && player.getChipsAmount() > 0) {
+        for (long pending = canAct; pending != 0; pending &= pending - 1) {
+            if (currentRound.getBet(Long.numberOfTrailingZeros(pending)) < currentBet) {
                 return false;
             }
         }
@@ -310,11 +493,28 @@ public class Game {
         return true;
     }
     
+    /**
+     * True once nobody still in the hand has a decision left: at most one live player
+     * has chips behind, and that player has nothing to call. From then on the hand only
+     * runs out the board, so showing equities gives nobody an edge.
+     */
+    public boolean isActionClosed() {
+        if (currentRound == null) {
+            return false;
+        }
+        long canAct = currentRound.activeSeats() & ~currentRound.allInSeats();
+        if (canAct == 0) {
+            return true;
+        }
+        return Long.bitCount(canAct) == 1
+            && currentRound.getBet(Long.numberOfTrailingZeros(canAct)) >= currentRound.getCurrentBet();
+    }
+    
     /**
      * Start a new betting round (reset action tracking)
      */
     private void startNewBettingRound() {
-        playersActedThisRound.clear();
+        actedSeats = 0L;
         currentRound.setCurrentBet(0);
         // First to act after flop/turn/river is left of dealer
         currentPlayerIndex = (dealerPosition + 1) % players.size();
@@ -335,17 +535,92 @@ public class Game {
     public GameState getState() { return state; }
     public Blinds getBlinds() { return blinds; }
     public List<Card> getCommunityCards() { return List.copyOf(communityCards); }
-    public List<Player> getPlayers() { return List.copyOf(players); }
+    public CardSet getCommunityCardSet() { return communityCardSet; }
+    public List<Player> getPlayers() { return playersView; }
     public Pot getCurrentPot() { return currentRound.getPot(); }
     public Round getCurrentRound() { return currentRound; }
+
+    /**
+     * The table's chip balances, pot and transfer journal.
+     */
+    public ChipLedger getChipLedger() { return ledger; }
     public int getDealerPosition() { return dealerPosition; }
     public int getCurrentPlayerIndex() { return currentPlayerIndex; }
-    public Set<String> getPlayersActedThisRound() { return Set.copyOf(playersActedThisRound); }
+    
+    /**
+     * Bit per seat that has acted in the current betting round.
+     */
+    public long getActedSeats() { return actedSeats; }
+
+    public boolean hasActedThisRound(Player player) {
+        return (actedSeats & (1L << seatOf(player))) != 0;
+    }
+
+    /**
+     * Ids of the players who have acted in the current betting round, for persistence.
+     */
+    public Set<String> getPlayersActedThisRound() {
+        Set<String> acted = new HashSet<>();
+        for (long seats = actedSeats; seats != 0; seats &= seats - 1) {
+            acted.add(players.get(Long.numberOfTrailingZeros(seats)).getId().asString());
+        }
+        return acted;
+    }
+    
+    /**
+     * Seed the current hand was shuffled from; replaying it with the same
+     * RngProvider deals the same cards.
+     */
+    public HandSeed getHandSeed() { return handSeed; }
     
     // Setters for persistence layer
     public void setCurrentPlayerIndex(int index) { this.currentPlayerIndex = index; }
-    public void setPlayersActedThisRound(Set<String> players) { 
-        this.playersActedThisRound.clear();
-        this.playersActedThisRound.addAll(players);
+
+    /**
+     * Restores the recorded seed of the hand in progress. The deck is dealt again
+     * from it up to where the hand stands, so the remaining cards come out exactly
+     * as they would have; if the cards in play don't match, it falls back to a
+     * fresh deck without them.
+     */
+    public void setHandSeed(HandSeed seed) {
+        this.handSeed = seed;
+        if (state == GameState.WAITING || state == GameState.FINISHED) {
+            return;
+        }
+
+        long inPlay = communityCardSet.mask();
+        int dealt = communityCards.size() + burnsBefore(communityCards.size());
+        for (Player player : players) {
+            inPlay |= player.getHand().mask();
+            dealt += player.getHand().size();
+        }
+
+        deck.reset(rng.forHand(seed));
+        long replayed = 0L;
+        for (int i = 0; i < dealt; i++) {
+            replayed |= deck.dealCard().getMask();
+        }
+        if ((replayed & inPlay) != inPlay) {
+            deck.reset();
+            deck.removeAll(CardSet.fromMask(inPlay).toList());
+        }
+    }
+
+    private static int burnsBefore(int communityCount) {
+        return switch (communityCount) {
+            case 0 -> 0;
+            case 3 -> 1;
+            case 4 -> 2;
+            default -> 3;
+        };
+    }
+    public void setPlayersActedThisRound(Set<String> playerIds) { 
+        long acted = 0L;
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (playerIds.contains(players.get(seat).getId().asString())) {
+                acted |= 1L << seat;
+            }
+        }
+        this.actedSeats = acted;
     }
 }
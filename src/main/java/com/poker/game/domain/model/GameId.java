@@ -1,42 +1,82 @@
 package com.poker.game.domain.model;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.poker.shared.domain.valueobject.IdInterner;
+
 /**
  * Value Object representing a unique game identifier.
  * Immutable and based on UUID.
+ *
+ * Interned: each factory hands back the single live GameId for its UUID, so the
+ * canonical string and the 16-byte form are built once, when the id is first seen.
  */
 public class GameId {
+    private static final IdInterner<UUID, GameId> INTERNED = new IdInterner<>();
+
     private final UUID value;
+    private final String text;
+    private final byte[] bytes;
 
     private GameId(UUID value) {
         this.value = Objects.requireNonNull(value, "GameId value cannot be null");
+        this.text = value.toString();
+        this.bytes = ByteBuffer.allocate(16)
+            .putLong(value.getMostSignificantBits())
+            .putLong(value.getLeastSignificantBits())
+            .array();
     }
 
     public static GameId generate() {
-        return new GameId(UUID.randomUUID());
+        return from(UUID.randomUUID());
     }
 
     public static GameId from(String id) {
         try {
-            return new GameId(UUID.fromString(id));
+            return from(UUID.fromString(id));
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid GameId format: " + id, e);
         }
     }
 
     public static GameId from(UUID uuid) {
-        return new GameId(uuid);
+        return INTERNED.intern(Objects.requireNonNull(uuid, "GameId value cannot be null"), GameId::new);
+    }
+
+    /**
+     * Reads the 16-byte form written by toBytes.
+     */
+    public static GameId fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            throw new IllegalArgumentException("GameId bytes must be 16 long");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return from(new UUID(buffer.getLong(), buffer.getLong()));
     }
 
     public UUID getValue() {
         return value;
     }
 
+    /**
+     * Canonical string form, computed once; the same String instance on every call.
+     */
+    public String asString() {
+        return text;
+    }
+
+    /**
+     * The UUID as 16 big-endian bytes, e.g. for a BLOB column. A copy of the cached form.
+     */
+    public byte[] toBytes() {
+        return bytes.clone();
+    }
+
     @Override
     public String toString() {
-        return value.toString();
+        return text;
     }
 
     @Override
@@ -49,6 +89,6 @@ public class GameId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return value.hashCode();
     }
 }
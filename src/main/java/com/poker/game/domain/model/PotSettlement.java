@@ -0,0 +1,140 @@
+package com.poker.game.domain.model;
+
+/**
+ * Settles a hand's pot, main and side pots included, over seat-indexed primitive arrays.
+ *
+ * Pots are the layers between the distinct contributions of the players still in the
+ * hand: each layer is paid by every seat that put in at least that much (folded seats
+ * included) and is won by the best packed hand value among the live seats that reached it.
+ * A split layer is shared evenly; its odd chips go one each to the winners closest to
+ * the left of the dealer.
+ *
+ * One instance is reused by its game: the scratch buffers are allocated once, so a
+ * settlement allocates nothing. Not thread-safe.
+ */
+public final class PotSettlement {
+
+    private final int[] winners;
+
+    /**
+     * @param seats Number of seats at the table
+     */
+    public PotSettlement(int seats) {
+        this.winners = new int[seats];
+    }
+
+    /**
+     * Pays the pot out to the live seats.
+     *
+     * @param contributions Chips each seat put in this hand
+     * @param handValues Packed HandValue per seat; read only for live seats
+     * @param liveSeats Bit per seat still in the hand (not folded)
+     * @param potAmount Chips in the pot; normally the sum of the contributions.
+     *                  Chips not attributed to a seat are added to the main pot,
+     *                  and no more than this amount is ever paid out
+     * @param firstSeat Seat left of the dealer, first in line for odd chips
+     * @param payouts Output, chips won per seat; overwritten
+     * @return Number of pots settled (1 = main pot only)
+     */
+    public int settle(int[] contributions, int[] handValues, long liveSeats, int potAmount,
+                      int firstSeat, int[] payouts) {
+        int seats = contributions.length;
+        if (handValues.length != seats || payouts.length != seats || winners.length < seats) {
+            throw new IllegalArgumentException("Seat arrays must all have " + seats + " entries");
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            payouts[seat] = 0;
+        }
+        if (liveSeats == 0 || potAmount <= 0) {
+            return 0;
+        }
+
+        long attributed = 0;
+        for (int contribution : contributions) {
+            attributed += contribution;
+        }
+        int remaining = potAmount;
+        int deadMoney = (int) Math.max(0, potAmount - attributed);
+
+        int pots = 0;
+        int previousLevel = 0;
+        while (remaining > 0) {
+            int level = nextLevel(contributions, liveSeats, previousLevel);
+            boolean lastLevel = level == Integer.MAX_VALUE;
+
+            int pot = pots == 0 ? deadMoney : 0;
+            for (int seat = 0; seat < seats; seat++) {
+                int contribution = contributions[seat];
+                // Past the last live level, folded seats' excess joins the top pot
+                int upper = lastLevel ? contribution : Math.min(contribution, level);
+                pot += Math.max(0, upper - Math.min(contribution, previousLevel));
+            }
+            pot = Math.min(pot, remaining);
+
+            if (lastLevel) {
+                if (pot > 0 && pots > 0) {
+                    award(pot, contributions, handValues, liveSeats, previousLevel, firstSeat, payouts);
+                } else if (pot > 0) {
+                    award(pot, contributions, handValues, liveSeats, 0, firstSeat, payouts);
+                    pots++;
+                }
+                break;
+            }
+
+            if (pot > 0) {
+                award(pot, contributions, handValues, liveSeats, level, firstSeat, payouts);
+                pots++;
+                remaining -= pot;
+            }
+            previousLevel = level;
+        }
+        return pots;
+    }
+
+    /**
+     * Smallest live contribution above the given level, or Integer.MAX_VALUE if none.
+     */
+    private static int nextLevel(int[] contributions, long liveSeats, int above) {
+        int level = Integer.MAX_VALUE;
+        for (int seat = 0; seat < contributions.length; seat++) {
+            if (isLive(liveSeats, seat) && contributions[seat] > above && contributions[seat] < level) {
+                level = contributions[seat];
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Splits one pot among the best live hands that contributed at least {@code level}.
+     */
+    private void award(int pot, int[] contributions, int[] handValues, long liveSeats, int level,
+                       int firstSeat, int[] payouts) {
+        int seats = contributions.length;
+        int best = Integer.MIN_VALUE;
+        int count = 0;
+        // Walk clockwise from the first seat so winners[] is in odd-chip order
+        for (int i = 0; i < seats; i++) {
+            int seat = (firstSeat + i) % seats;
+            if (!isLive(liveSeats, seat) || contributions[seat] < level) {
+                continue;
+            }
+            if (handValues[seat] > best) {
+                best = handValues[seat];
+                count = 0;
+            }
+            if (handValues[seat] == best) {
+                winners[count++] = seat;
+            }
+        }
+
+        int share = pot / count;
+        int oddChips = pot % count;
+        for (int i = 0; i < count; i++) {
+            payouts[winners[i]] += share + (i < oddChips ? 1 : 0);
+        }
+    }
+
+    private static boolean isLive(long liveSeats, int seat) {
+        return (liveSeats & (1L << seat)) != 0;
+    }
+}
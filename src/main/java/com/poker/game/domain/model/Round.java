@@ -1,46 +1,85 @@
 package com.poker.game.domain.model;
 
 import com.poker.player.domain.model.Player;
+import com.poker.player.domain.model.PlayerId;
+import com.poker.shared.domain.ledger.ChipLedger;
 import java.util.*;
 
 /**
  * Entity representing a single betting round in a poker game.
  * Manages the pot and tracks active players.
- * 
+ *
+ * Betting state is kept by seat (the index in the players list): the chips each seat
+ * has put in live in an int[], and who is still in, folded or all-in is read as a
+ * bitmask over the seats. The pot is the table ChipLedger's, so a bet is one transfer
+ * from the seat's balance. The betting path formats no ids and allocates nothing.
+ *
  * REFACTORED from existing Round.java with enhancements.
  */
 public class Round {
-    private final List<Player> players;
-    private Pot pot;
-    private final List<Player> activePlayers;
+    private final Player[] seats;
+    private final Map<PlayerId, Integer> seatIndex;
+    private final ChipLedger ledger;
     private int currentBet;
-    private final Map<String, Integer> playerBets; // Track each player's contribution this round
+    private final int[] bets; // Each seat's contribution this hand, as read by the pot settlement
+    private long removedSeats;
 
+    /**
+     * Round on a ledger of its own, at which the players are seated.
+     */
     public Round(List<Player> players) {
-        this.players = new ArrayList<>(players);
-        this.activePlayers = new ArrayList<>(players);
-        this.pot = Pot.empty();
+        this(players, indexSeats(players), seatAll(players));
+    }
+
+    /**
+     * Round sharing the game's seat index and ledger, both in the order of players.
+     */
+    Round(List<Player> players, Map<PlayerId, Integer> seatIndex, ChipLedger ledger) {
+        this.seats = players.toArray(new Player[0]);
+        if (seats.length > Long.SIZE) {
+            throw new IllegalArgumentException("A round holds at most " + Long.SIZE + " seats");
+        }
+        this.seatIndex = seatIndex;
+        this.ledger = ledger;
         this.currentBet = 0;
-        this.playerBets = new HashMap<>();
+        this.bets = new int[seats.length];
     }
 
+    /**
+     * Adds chips to the pot that no seat pays for here, e.g. a pot restored from storage.
+     */
     public void addToPot(int amount) {
-        this.pot = this.pot.add(amount);
+        ledger.restorePot(amount);
+    }
+
+    /**
+     * The player puts chips in: they move from the player's balance to the pot and
+     * count toward what the seat has bet this hand.
+     */
+    public void bet(Player player, int amount) {
+        int seat = seatOf(player);
+        ledger.bet(seat, amount);
+        bets[seat] += amount;
     }
-    
+
     public void recordPlayerBet(Player player, int amount) {
-        String playerId = player.getId().getValue().toString();
-        playerBets.put(playerId, playerBets.getOrDefault(playerId, 0) + amount);
+        bets[seatOf(player)] += amount;
     }
-    
+
     public void setPlayerBet(Player player, int amount) {
-        String playerId = player.getId().getValue().toString();
-        playerBets.put(playerId, amount);
+        bets[seatOf(player)] = amount;
     }
-    
+
     public int getPlayerBet(Player player) {
-        String playerId = player.getId().getValue().toString();
-        return playerBets.getOrDefault(playerId, 0);
+        int seat = indexOf(player);
+        return seat < 0 ? 0 : bets[seat];
+    }
+
+    /**
+     * Chips the seat has put in this hand.
+     */
+    public int getBet(int seat) {
+        return bets[seat];
     }
 
     public void setCurrentBet(int amount) {
@@ -51,42 +90,151 @@ public class Round {
         return currentBet;
     }
 
+    /**
+     * The pot as a value, read from the ledger.
+     */
     public Pot getPot() {
-        return pot;
+        return Pot.of((int) ledger.pot());
+    }
+
+    public int getPotAmount() {
+        return (int) ledger.pot();
+    }
+
+    /**
+     * Bit per seat still in the hand: not folded and not removed.
+     */
+    public long activeSeats() {
+        long active = 0L;
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (!seats[seat].isFolded()) {
+                active |= 1L << seat;
+            }
+        }
+        return active & ~removedSeats;
+    }
+
+    /**
+     * Bit per seat that has folded this hand.
+     */
+    public long foldedSeats() {
+        long folded = 0L;
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat].isFolded()) {
+                folded |= 1L << seat;
+            }
+        }
+        return folded;
+    }
+
+    /**
+     * Bit per active seat with no chips left behind.
+     */
+    public long allInSeats() {
+        long allIn = 0L;
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat].getChipsAmount() == 0) {
+                allIn |= 1L << seat;
+            }
+        }
+        return allIn & activeSeats();
+    }
+
+    public int getActivePlayerCount() {
+        return Long.bitCount(activeSeats());
     }
 
     public List<Player> getActivePlayers() {
-        return activePlayers.stream()
-            .filter(p -> !p.isFolded())
-            .toList();
+        long active = activeSeats();
+        List<Player> activePlayers = new ArrayList<>(Long.bitCount(active));
+        for (int seat = 0; seat < seats.length; seat++) {
+            if ((active & (1L << seat)) != 0) {
+                activePlayers.add(seats[seat]);
+            }
+        }
+        return activePlayers;
     }
 
     public List<Player> getAllPlayers() {
-        return new ArrayList<>(players);
+        return new ArrayList<>(Arrays.asList(seats));
     }
 
     public void removePlayer(Player player) {
-        activePlayers.remove(player);
+        int seat = indexOf(player);
+        if (seat >= 0) {
+            removedSeats |= 1L << seat;
+        }
     }
 
     public boolean hasMultipleActivePlayers() {
-        return getActivePlayers().size() > 1;
+        return getActivePlayerCount() > 1;
     }
 
-    public void distributePot(Player winner) {
-        winner.addChips(pot.getAmount());
-        this.pot = Pot.empty();
+    /**
+     * Pays every showdown contender what they won from the main and side pots.
+     */
+    public void distributePot(ShowdownResult showdown) {
+        for (ShowdownResult.Entry entry : showdown.getEntries()) {
+            if (entry.amountWon() > 0) {
+                ledger.award(seatOf(entry.player()), entry.amountWon());
+            }
+        }
     }
 
     public void reset() {
-        this.pot = Pot.empty();
+        ledger.clearPot();
         this.currentBet = 0;
-        this.activePlayers.clear();
-        this.activePlayers.addAll(players);
-        this.playerBets.clear();
+        this.removedSeats = 0L;
+        Arrays.fill(bets, 0);
     }
-    
+
+    /**
+     * Contributions keyed by player id, for persistence; seats with nothing in are left out.
+     */
     public Map<String, Integer> getAllPlayerBets() {
-        return new HashMap<>(playerBets);
+        Map<String, Integer> playerBets = new HashMap<>();
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (bets[seat] != 0) {
+                playerBets.put(seats[seat].getId().asString(), bets[seat]);
+            }
+        }
+        return playerBets;
+    }
+
+    /**
+     * Chips each seat has put in this hand, indexed like the players list.
+     * The live array, not a copy: the settlement reads it in place.
+     */
+    int[] contributionsBySeat() {
+        return bets;
+    }
+
+    private int seatOf(Player player) {
+        int seat = indexOf(player);
+        if (seat < 0) {
+            throw new IllegalArgumentException("Player not in round: " + player.getId());
+        }
+        return seat;
+    }
+
+    private int indexOf(Player player) {
+        Integer seat = seatIndex.get(player.getId());
+        return seat == null ? -1 : seat;
+    }
+
+    private static ChipLedger seatAll(List<Player> players) {
+        ChipLedger ledger = new ChipLedger(players.size());
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.get(seat).seatAt(ledger, seat);
+        }
+        return ledger;
+    }
+
+    private static Map<PlayerId, Integer> indexSeats(List<Player> players) {
+        Map<PlayerId, Integer> index = new HashMap<>();
+        for (int seat = 0; seat < players.size(); seat++) {
+            index.put(players.get(seat).getId(), seat);
+        }
+        return index;
     }
 }
@@ -0,0 +1,138 @@
+package com.poker.game.domain.model;
+
+import com.poker.game.domain.evaluation.HandRank;
+import com.poker.game.domain.evaluation.HandValue;
+import com.poker.player.domain.model.Player;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable outcome of a showdown, computed once by the game from the seat evaluators.
+ *
+ * Holds every contesting player's hand value ordered best first, the place of each
+ * (tied hands share a place), what each won from the main and side pots, and the pot
+ * that was contested. Pot distribution and WINNER_DETERMINED both read it, so no hand
+ * is evaluated twice.
+ */
+public final class ShowdownResult {
+
+    private final List<Entry> entries;
+    private final List<Player> winners;
+    private final int potAmount;
+    private final int potCount;
+
+    private ShowdownResult(List<Entry> entries, int potAmount, int potCount) {
+        this.entries = entries;
+        this.potAmount = potAmount;
+        this.potCount = potCount;
+        this.winners = entries.stream()
+            .filter(entry -> entry.place() == 1)
+            .map(Entry::player)
+            .toList();
+    }
+
+    /**
+     * Ranks the contenders by hand value. Equal values share a place and keep
+     * the order they were given in (seat order).
+     *
+     * @param contenders Players still in the hand
+     * @param handValues Packed HandValue of each contender, same order
+     * @param amountsWon Chips each contender won, same order (see PotSettlement)
+     * @param potAmount Chips that were contested
+     * @param potCount Number of pots, main pot included
+     */
+    static ShowdownResult of(List<Player> contenders, int[] handValues, int[] amountsWon,
+                             int potAmount, int potCount) {
+        if (contenders.size() != handValues.length || contenders.size() != amountsWon.length) {
+            throw new IllegalArgumentException("One hand value and amount is needed per contender");
+        }
+        if (potAmount < 0) {
+            throw new IllegalArgumentException("Pot amount cannot be negative: " + potAmount);
+        }
+
+        List<Entry> ranked = new ArrayList<>(contenders.size());
+        for (int i = 0; i < contenders.size(); i++) {
+            ranked.add(new Entry(contenders.get(i), handValues[i], 0, amountsWon[i]));
+        }
+        // List.sort is stable, so tied hands stay in seat order
+        ranked.sort(Comparator.comparingInt(Entry::handValue).reversed());
+
+        List<Entry> entries = new ArrayList<>(ranked.size());
+        int place = 0;
+        for (int i = 0; i < ranked.size(); i++) {
+            Entry entry = ranked.get(i);
+            if (i == 0 || entry.handValue() != ranked.get(i - 1).handValue()) {
+                place = i + 1;
+            }
+            entries.add(new Entry(entry.player(), entry.handValue(), place, entry.amountWon()));
+        }
+        return new ShowdownResult(List.copyOf(entries), potAmount, potCount);
+    }
+
+    /**
+     * Every contender, best hand first.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Players holding the best hand; more than one on a split pot. A side pot
+     * can still go to someone else, see getAmountWon.
+     */
+    public List<Player> getWinners() {
+        return winners;
+    }
+
+    /**
+     * The first winner in seat order, or null when nobody contested the pot.
+     */
+    public Player getWinner() {
+        return winners.isEmpty() ? null : winners.get(0);
+    }
+
+    public boolean isTie() {
+        return winners.size() > 1;
+    }
+
+    public HandRank getWinningHandRank() {
+        return entries.isEmpty() ? null : entries.get(0).handRank();
+    }
+
+    public int getPotAmount() {
+        return potAmount;
+    }
+
+    /**
+     * Number of pots contested: 1 for the main pot, plus one per side pot.
+     */
+    public int getPotCount() {
+        return potCount;
+    }
+
+    /**
+     * Chips the player won across the main and side pots; 0 if they won nothing.
+     */
+    public int getAmountWon(Player player) {
+        for (Entry entry : entries) {
+            if (entry.player().getId().equals(player.getId())) {
+                return entry.amountWon();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * One contender's hand at showdown.
+     *
+     * @param place 1 for the best hand; tied hands share a place
+     * @param amountWon Chips won from the main and side pots
+     */
+    public record Entry(Player player, int handValue, int place, int amountWon) {
+
+        public HandRank handRank() {
+            return HandValue.handRank(handValue);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.poker.game.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.poker.game.domain.model.Game;
+import com.poker.game.domain.model.GameId;
+import com.poker.game.domain.model.GameState;
+import com.poker.game.domain.repository.GameRepository;
+import com.poker.player.domain.model.PlayerId;
+
+/**
+ * In-memory, authoritative home of the live Game aggregates, in front of SQLite.
+ *
+ * findById serves the live instance straight from memory; SQLite is only read on a
+ * cold start or to rehydrate a game that was evicted. save() takes a GameSnapshot on
+ * the calling thread and hands it to a single write-behind thread. Snapshots of one
+ * game are coalesced, so a burst of actions costs one write of the latest state.
+ * Finished games are evicted once their final snapshot is on disk, and games nobody
+ * has touched for GAME_IDLE_SECONDS (default 1800, 0 keeps them) once theirs is; an
+ * evicted game is rehydrated from SQLite on its next load. A failed write is kept
+ * and retried unless a newer snapshot has replaced it.
+ *
+ * Queries across games (by state, by player, all) first flush pending writes, then
+ * swap in the live instances of games held in memory.
+ */
+public class ActiveGameRegistry implements GameRepository, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ActiveGameRegistry.class.getName());
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(
+        Long.parseLong(System.getenv().getOrDefault("GAME_IDLE_SECONDS", "1800")));
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final SQLiteGameRepository store;
+    // Eviction and save() both go through compute on this map, so they never interleave
+    private final Map<GameId, LiveGame> liveGames = new ConcurrentHashMap<>();
+    private final Map<GameId, GameSnapshot> pendingWrites = new ConcurrentHashMap<>();
+    private final BlockingQueue<GameId> dirtyGames = new LinkedBlockingQueue<>();
+    // Held while a snapshot is taken from pendingWrites and written, so writes keep their order
+    private final Object writeLock = new Object();
+    private final Thread writer;
+    private final long idleNanos; // 0 when idle games are kept
+    private volatile boolean running = true;
+    private volatile Consumer<GameId> evictionListener = id -> { };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rehydrations = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ActiveGameRegistry(SQLiteGameRepository store) {
+        this(store, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param idleTimeout How long a game may go untouched before it is evicted; zero keeps it
+     */
+    public ActiveGameRegistry(SQLiteGameRepository store, Duration idleTimeout) {
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout cannot be negative: " + idleTimeout);
+        }
+        this.store = store;
+        this.idleNanos = idleTimeout.toNanos();
+        this.writer = new Thread(this::writeLoop, "game-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void save(Game game) {
+        GameId id = game.getId();
+        GameSnapshot snapshot = GameSnapshot.of(game);
+        liveGames.compute(id, (key, live) -> {
+            if (pendingWrites.put(id, snapshot) == null) {
+                dirtyGames.offer(id);
+            } else {
+                coalesced.increment();
+            }
+            return live != null && live.game == game ? live.touch() : new LiveGame(game);
+        });
+    }
+
+    @Override
+    public Optional<Game> findById(GameId id) {
+        LiveGame live = liveGames.get(id);
+        if (live != null) {
+            hits.increment();
+            return Optional.of(live.touch().game);
+        }
+
+        Optional<Game> stored = store.findById(id);
+        stored.ifPresent(loaded -> rehydrations.increment());
+        // Another thread may have rehydrated it meanwhile: keep a single live instance
+        return stored.map(loaded -> liveGames.computeIfAbsent(id, key -> new LiveGame(loaded)).game);
+    }
+
+    @Override
+    public List<Game> findByState(GameState state) {
+        flush();
+        return preferLive(store.findByState(state));
+    }
+
+    @Override
+    public List<Game> findActiveGames() {
+        flush();
+        return preferLive(store.findActiveGames());
+    }
+
+    @Override
+    public List<Game> findByPlayer(PlayerId playerId) {
+        flush();
+        return preferLive(store.findByPlayer(playerId));
+    }
+
+    @Override
+    public boolean exists(GameId id) {
+        return liveGames.containsKey(id) || pendingWrites.containsKey(id) || store.exists(id);
+    }
+
+    @Override
+    public void delete(GameId id) {
+        synchronized (writeLock) {
+            liveGames.remove(id);
+            pendingWrites.remove(id);
+            store.delete(id);
+        }
+        evictionListener.accept(id);
+    }
+
+    /**
+     * Called with the id of every game dropped from memory, by eviction or delete, so
+     * per-game state kept elsewhere (turn clocks) can be dropped with it.
+     */
+    public void onEviction(Consumer<GameId> listener) {
+        this.evictionListener = listener;
+    }
+
+    @Override
+    public List<Game> findAll() {
+        flush();
+        return preferLive(store.findAll());
+    }
+
+    private List<Game> preferLive(List<Game> stored) {
+        List<Game> games = new ArrayList<>(stored.size());
+        for (Game game : stored) {
+            LiveGame live = liveGames.get(game.getId());
+            games.add(live != null ? live.game : game);
+        }
+        return games;
+    }
+
+    /**
+     * Writes every pending snapshot now, on the calling thread.
+     */
+    public void flush() {
+        // Taking the lock first also waits for a write the writer thread has in flight
+        synchronized (writeLock) {
+            for (GameId id : List.copyOf(pendingWrites.keySet())) {
+                write(id);
+            }
+        }
+    }
+
+    private void writeLoop() {
+        // Idle games are looked for a few times per timeout, between writes
+        long sweepMillis = idleNanos == 0 ? 0
+            : Math.clamp(TimeUnit.NANOSECONDS.toMillis(idleNanos) / 4, 1000L, 60_000L);
+        long nextSweep = System.currentTimeMillis() + sweepMillis;
+        while (running) {
+            try {
+                GameId id = sweepMillis == 0 ? dirtyGames.take() : dirtyGames.poll(sweepMillis, TimeUnit.MILLISECONDS);
+                if (id != null && !write(id)) {
+                    // Do not spin on a store that keeps failing
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                }
+                if (sweepMillis != 0 && System.currentTimeMillis() >= nextSweep) {
+                    evictIdle();
+                    nextSweep = System.currentTimeMillis() + sweepMillis;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return False if the store rejected the snapshot
+     */
+    private boolean write(GameId id) {
+        synchronized (writeLock) {
+            GameSnapshot snapshot = pendingWrites.remove(id);
+            if (snapshot == null) {
+                return true; // Already written by flush() or a previous dirty entry
+            }
+            try {
+                store.saveSnapshot(snapshot);
+                writes.increment();
+            } catch (RuntimeException e) {
+                failedWrites.increment();
+                LOGGER.log(Level.WARNING, "Write-behind failed for game " + id.getValue(), e);
+                // Keep it for a retry, unless a newer save has already replaced it
+                if (pendingWrites.putIfAbsent(id, snapshot) == null) {
+                    dirtyGames.offer(id);
+                }
+                return false;
+            }
+            if (snapshot.state() == GameState.FINISHED) {
+                evict(id, live -> live.game.getState() == GameState.FINISHED);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Evicts every game untouched for longer than the idle timeout whose latest state
+     * is on disk. Runs on the write-behind thread; public so it can be forced.
+     *
+     * @return The number of games evicted
+     */
+    public int evictIdle() {
+        if (idleNanos == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (GameId id : List.copyOf(liveGames.keySet())) {
+            if (evict(id, live -> now - live.lastAccessNanos >= idleNanos)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Drops the live game if the condition holds and it has no snapshot waiting to be
+     * written. Done inside compute, so a concurrent save() either lands first and keeps
+     * the game, or runs after and puts it back.
+     */
+    private boolean evict(GameId id, Predicate<LiveGame> condition) {
+        boolean[] evicted = new boolean[1];
+        liveGames.computeIfPresent(id, (key, live) -> {
+            if (pendingWrites.containsKey(id) || !condition.test(live)) {
+                return live;
+            }
+            evicted[0] = true;
+            return null;
+        });
+        if (evicted[0]) {
+            evictions.increment();
+            evictionListener.accept(id);
+        }
+        return evicted[0];
+    }
+
+    public int size() {
+        return liveGames.size();
+    }
+
+    public int pendingWrites() {
+        return pendingWrites.size();
+    }
+
+    /**
+     * Counters since the registry started.
+     */
+    public Stats stats() {
+        return new Stats(liveGames.size(), pendingWrites.size(), hits.sum(), rehydrations.sum(),
+            writes.sum(), coalesced.sum(), failedWrites.sum(), evictions.sum());
+    }
+
+    /**
+     * Stops the write-behind thread after writing everything still pending.
+     */
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+        flush();
+    }
+
+    /**
+     * @param liveGames Games held in memory
+     * @param pendingWrites Games with a snapshot not yet written
+     * @param hits Loads served from memory
+     * @param rehydrations Loads that had to read SQLite
+     * @param writes Snapshots written
+     * @param coalesced Saves superseded by a later one before being written
+     * @param failedWrites Snapshots SQLite rejected
+     * @param evictions Games dropped from memory, finished or idle
+     */
+    public record Stats(int liveGames, int pendingWrites, long hits, long rehydrations,
+                        long writes, long coalesced, long failedWrites, long evictions) {}
+
+    /**
+     * A live game and when it was last saved or loaded.
+     */
+    private static final class LiveGame {
+        final Game game;
+        volatile long lastAccessNanos;
+
+        LiveGame(Game game) {
+            this.game = game;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        LiveGame touch() {
+            lastAccessNanos = System.nanoTime();
+            return this;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.poker.game.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.poker.game.domain.model.Game;
+import com.poker.game.domain.model.GameId;
+import com.poker.game.domain.model.GameState;
+import com.poker.player.domain.model.Player;
+import com.poker.shared.domain.random.HandSeed;
+import com.poker.shared.domain.valueobject.Card;
+
+/**
+ * Immutable copy of everything SQLiteGameRepository writes for a game, taken on the
+ * thread that owns the game so it can be written later from another thread.
+ */
+public record GameSnapshot(
+    GameId id,
+    GameState state,
+    int smallBlind,
+    int bigBlind,
+    int pot,
+    int dealerPosition,
+    int currentPlayerIndex,
+    Set<String> playersActedThisRound,
+    List<Card> communityCards,
+    HandSeed handSeed,
+    List<SeatSnapshot> seats
+) {
+
+    public static GameSnapshot of(Game game) {
+        Map<String, Integer> playerBets = game.getCurrentRound() != null
+            ? game.getCurrentRound().getAllPlayerBets()
+            : Map.of();
+
+        List<SeatSnapshot> seats = new ArrayList<>();
+        List<Player> players = game.getPlayers();
+        for (int position = 0; position < players.size(); position++) {
+            Player player = players.get(position);
+            String playerId = player.getId().asString();
+            seats.add(new SeatSnapshot(
+                playerId,
+                position,
+                player.getChipsAmount(),
+                player.isFolded(),
+                player.isAllIn(),
+                playerBets.getOrDefault(playerId, 0),
+                player.getHand().getCards()
+            ));
+        }
+
+        return new GameSnapshot(
+            game.getId(),
+            game.getState(),
+            game.getBlinds().getSmallBlind(),
+            game.getBlinds().getBigBlind(),
+            game.getCurrentPot().getAmount(),
+            game.getDealerPosition(),
+            game.getCurrentPlayerIndex(),
+            game.getPlayersActedThisRound(),
+            game.getCommunityCards(),
+            game.getHandSeed(),
+            List.copyOf(seats)
+        );
+    }
+
+    /**
+     * One row of game_players.
+     */
+    public record SeatSnapshot(
+        String playerId,
+        int position,
+        int chips,
+        boolean folded,
+        boolean allIn,
+        int currentBet,
+        List<Card> holeCards
+    ) {}
+}
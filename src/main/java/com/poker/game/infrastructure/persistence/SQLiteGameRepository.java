@@ -22,6 +22,7 @@ import com.poker.game.domain.repository.GameRepository;
 import com.poker.player.domain.model.Player;
 import com.poker.player.domain.model.PlayerId;
 import com.poker.player.domain.repository.PlayerRepository;
+import com.poker.shared.domain.random.HandSeed;
 import com.poker.shared.domain.valueobject.Card;
 import com.poker.shared.infrastructure.database.DatabaseConnection;
 
@@ -40,19 +41,26 @@ public class SQLiteGameRepository implements GameRepository {
 
     @Override
     public void save(Game game) {
+        saveSnapshot(GameSnapshot.of(game));
+    }
+
+    /**
+     * Writes a snapshot taken earlier, possibly on another thread (see ActiveGameRegistry).
+     */
+    public void saveSnapshot(GameSnapshot snapshot) {
         Connection conn = null;
         try {
             conn = dbConnection.getConnection();
             conn.setAutoCommit(false);
             
-            if (exists(game.getId())) {
-                updateGame(conn, game);
+            if (exists(conn, snapshot.id())) {
+                updateGame(conn, snapshot);
             } else {
-                insertGame(conn, game);
+                insertGame(conn, snapshot);
             }
             
             // Save game players relationship
-            saveGamePlayers(conn, game);
+            saveGamePlayers(conn, snapshot);
             
             conn.commit();
         } catch (SQLException e) {
@@ -63,26 +71,26 @@ public class SQLiteGameRepository implements GameRepository {
         }
     }
 
-    private void insertGame(Connection conn, Game game) throws SQLException {
+    private void insertGame(Connection conn, GameSnapshot game) throws SQLException {
         String sql = "INSERT INTO games (id, state, small_blind, big_blind, pot, " +
                      "dealer_position, current_player_index, players_acted_this_round, " +
                      "community_card_1, community_card_2, community_card_3, " +
-                     "community_card_4, community_card_5, created_at, updated_at) " +
-                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, datetime('now'), datetime('now'))";
+                     "community_card_4, community_card_5, hand_seed_material, created_at, updated_at) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, datetime('now'), datetime('now'))";
         
-        List<Card> communityCards = game.getCommunityCards();
+        List<Card> communityCards = game.communityCards();
         
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, game.getId().getValue().toString());
-            stmt.setString(2, game.getState().name());
-            stmt.setInt(3, game.getBlinds().getSmallBlind());
-            stmt.setInt(4, game.getBlinds().getBigBlind());
-            stmt.setInt(5, game.getCurrentPot().getAmount());
-            stmt.setInt(6, game.getDealerPosition());
-            stmt.setInt(7, game.getCurrentPlayerIndex());
+            stmt.setString(1, game.id().asString());
+            stmt.setString(2, game.state().name());
+            stmt.setInt(3, game.smallBlind());
+            stmt.setInt(4, game.bigBlind());
+            stmt.setInt(5, game.pot());
+            stmt.setInt(6, game.dealerPosition());
+            stmt.setInt(7, game.currentPlayerIndex());
             
             // Convert Set to comma-separated string
-            String playersActed = String.join(",", game.getPlayersActedThisRound());
+            String playersActed = String.join(",", game.playersActedThisRound());
             stmt.setString(8, playersActed);
             
             // Set community cards (null if not dealt yet)
@@ -93,28 +101,29 @@ public class SQLiteGameRepository implements GameRepository {
                     stmt.setNull(9 + i, java.sql.Types.VARCHAR);
                 }
             }
+            stmt.setString(14, seedMaterial(game));
             
             stmt.executeUpdate();
         }
     }
 
-    private void updateGame(Connection conn, Game game) throws SQLException {
+    private void updateGame(Connection conn, GameSnapshot game) throws SQLException {
         String sql = "UPDATE games SET state = ?, pot = ?, dealer_position = ?, " +
                      "current_player_index = ?, players_acted_this_round = ?, " +
                      "community_card_1 = ?, community_card_2 = ?, community_card_3 = ?, " +
-                     "community_card_4 = ?, community_card_5 = ?, " +
+                     "community_card_4 = ?, community_card_5 = ?, hand_seed_material = ?, " +
                      "updated_at = datetime('now') WHERE id = ?";
         
-        List<Card> communityCards = game.getCommunityCards();
+        List<Card> communityCards = game.communityCards();
         
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, game.getState().name());
-            stmt.setInt(2, game.getCurrentPot().getAmount());
-            stmt.setInt(3, game.getDealerPosition());
-            stmt.setInt(4, game.getCurrentPlayerIndex());
+            stmt.setString(1, game.state().name());
+            stmt.setInt(2, game.pot());
+            stmt.setInt(3, game.dealerPosition());
+            stmt.setInt(4, game.currentPlayerIndex());
             
             // Convert Set to comma-separated string
-            String playersActed = String.join(",", game.getPlayersActedThisRound());
+            String playersActed = String.join(",", game.playersActedThisRound());
             stmt.setString(5, playersActed);
             
             // Set community cards (null if not dealt yet)
@@ -126,43 +135,38 @@ public class SQLiteGameRepository implements GameRepository {
                 }
             }
             
-            stmt.setString(11, game.getId().getValue().toString());
+            stmt.setString(11, seedMaterial(game));
+            stmt.setString(12, game.id().asString());
             stmt.executeUpdate();
         }
     }
 
-    private void saveGamePlayers(Connection conn, Game game) throws SQLException {
+    private static String seedMaterial(GameSnapshot game) {
+        return game.handSeed() != null ? game.handSeed().toHex() : null;
+    }
+
+    private void saveGamePlayers(Connection conn, GameSnapshot game) throws SQLException {
         // Delete existing relationships
         String deleteSql = "DELETE FROM game_players WHERE game_id = ?";
         try (PreparedStatement stmt = conn.prepareStatement(deleteSql)) {
-            stmt.setString(1, game.getId().getValue().toString());
+            stmt.setString(1, game.id().asString());
             stmt.executeUpdate();
         }
         
-        // Get player bets from current round if available
-        Map<String, Integer> playerBets = new HashMap<>();
-        if (game.getCurrentRound() != null) {
-            playerBets = game.getCurrentRound().getAllPlayerBets();
-        }
-        
         // Insert current players
         String insertSql = "INSERT INTO game_players (game_id, player_id, position, chips_at_start, current_chips, is_folded, is_all_in, current_bet, hole_card_1, hole_card_2) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
-            List<Player> players = game.getPlayers();
-            for (int i = 0; i < players.size(); i++) {
-                Player player = players.get(i);
-                String playerId = player.getId().getValue().toString();
-                int currentBet = playerBets.getOrDefault(playerId, 0);
-                List<Card> holeCards = player.getHand().getCards();
+            for (GameSnapshot.SeatSnapshot seat : game.seats()) {
+                List<Card> holeCards = seat.holeCards();
                 
-                stmt.setString(1, game.getId().getValue().toString());
-                stmt.setString(2, playerId);
-                stmt.setInt(3, i);
-                stmt.setInt(4, player.getChipsAmount()); // chips_at_start
-                stmt.setInt(5, player.getChipsAmount()); // current_chips
-                stmt.setBoolean(6, player.isFolded()); // is_folded
-                stmt.setBoolean(7, player.isAllIn()); // is_all_in
-                stmt.setInt(8, currentBet); // current_bet from round
+                stmt.setString(1, game.id().asString());
+                stmt.setString(2, seat.playerId());
+                stmt.setInt(3, seat.position());
+                stmt.setInt(4, seat.chips()); // chips_at_start
+                stmt.setInt(5, seat.chips()); // current_chips
+                stmt.setBoolean(6, seat.folded()); // is_folded
+                stmt.setBoolean(7, seat.allIn()); // is_all_in
+                stmt.setInt(8, seat.currentBet()); // current_bet from round
                 
                 // Save hole cards
                 if (holeCards.size() >= 1) {
@@ -185,11 +189,11 @@ public class SQLiteGameRepository implements GameRepository {
     public Optional<Game> findById(GameId id) {
         Connection conn = null;
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM games WHERE id = ?";
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, id.getValue().toString());
+                stmt.setString(1, id.asString());
                 ResultSet rs = stmt.executeQuery();
                 
                 if (rs.next()) {
@@ -210,7 +214,7 @@ public class SQLiteGameRepository implements GameRepository {
         Connection conn = null;
         
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM games WHERE state = ? ORDER BY created_at DESC";
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -236,7 +240,7 @@ public class SQLiteGameRepository implements GameRepository {
         Connection conn = null;
         
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM games WHERE state != 'FINISHED' ORDER BY created_at DESC";
             
             try (Statement stmt = conn.createStatement()) {
@@ -261,13 +265,13 @@ public class SQLiteGameRepository implements GameRepository {
         Connection conn = null;
         
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT g.* FROM games g " +
                         "JOIN game_players gp ON g.id = gp.game_id " +
                         "WHERE gp.player_id = ? ORDER BY g.created_at DESC";
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, playerId.getValue().toString());
+                stmt.setString(1, playerId.asString());
                 ResultSet rs = stmt.executeQuery();
                 
                 while (rs.next()) {
@@ -287,14 +291,8 @@ public class SQLiteGameRepository implements GameRepository {
     public boolean exists(GameId id) {
         Connection conn = null;
         try {
-            conn = dbConnection.getConnection();
-            String sql = "SELECT COUNT(*) FROM games WHERE id = ?";
-            
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, id.getValue().toString());
-                ResultSet rs = stmt.executeQuery();
-                return rs.next() && rs.getInt(1) > 0;
-            }
+            conn = dbConnection.getReadConnection();
+            return exists(conn, id);
         } catch (SQLException e) {
             throw new RuntimeException("Failed to check game existence", e);
         } finally {
@@ -302,6 +300,16 @@ public class SQLiteGameRepository implements GameRepository {
         }
     }
 
+    private boolean exists(Connection conn, GameId id) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM games WHERE id = ?";
+        
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, id.asString());
+            ResultSet rs = stmt.executeQuery();
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
     @Override
     public void delete(GameId id) {
         Connection conn = null;
@@ -310,7 +318,7 @@ public class SQLiteGameRepository implements GameRepository {
             String sql = "DELETE FROM games WHERE id = ?";
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, id.getValue().toString());
+                stmt.setString(1, id.asString());
                 stmt.executeUpdate();
             }
         } catch (SQLException e) {
@@ -326,7 +334,7 @@ public class SQLiteGameRepository implements GameRepository {
         Connection conn = null;
         
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM games ORDER BY created_at DESC";
             
             try (Statement stmt = conn.createStatement()) {
@@ -383,6 +391,18 @@ public class SQLiteGameRepository implements GameRepository {
         // Set turn tracking state
         game.setCurrentPlayerIndex(currentPlayerIndex);
         game.setPlayersActedThisRound(playersActed);
+
+        // Re-deal the rest of the hand from its recorded seed; rows written before
+        // seed material was stored only have the 64-bit hand_seed
+        String seedMaterial = rs.getString("hand_seed_material");
+        if (seedMaterial != null) {
+            game.setHandSeed(HandSeed.fromHex(seedMaterial));
+        } else {
+            long handSeed = rs.getLong("hand_seed");
+            if (!rs.wasNull()) {
+                game.setHandSeed(HandSeed.of(handSeed));
+            }
+        }
         
         return game;
     }
@@ -392,7 +412,7 @@ public class SQLiteGameRepository implements GameRepository {
         String sql = "SELECT player_id, hole_card_1, hole_card_2 FROM game_players WHERE game_id = ? ORDER BY position";
         
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, gameId.getValue().toString());
+            stmt.setString(1, gameId.asString());
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
@@ -426,7 +446,7 @@ public class SQLiteGameRepository implements GameRepository {
         String sql = "SELECT player_id, current_bet FROM game_players WHERE game_id = ?";
         
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, gameId.getValue().toString());
+            stmt.setString(1, gameId.asString());
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
@@ -40,7 +40,7 @@ public class CreateLobbyUseCase {
 
         List<PlayerDTO> players = lobby.getPlayers().stream()
             .map(p -> new PlayerDTO(
-                p.getId().getValue().toString(),
+                p.getId().asString(),
                 p.getName(),
                 p.getChips().getAmount()
             ))
@@ -52,7 +52,7 @@ public class CreateLobbyUseCase {
             lobby.getPlayers().size(),
             lobby.getMaxPlayers(),
             lobby.isOpen(),
-            adminId.getValue().toString(),
+            adminId.asString(),
             players
         );
     }
@@ -32,7 +32,7 @@ public class JoinLobbyUseCase {
 
     public LobbyDTO execute(JoinLobbyCommand command) {
         // Load lobby (with all players via JOIN)
-        Lobby lobby = lobbyRepository.findById(new LobbyId(command.lobbyId()))
+        Lobby lobby = lobbyRepository.findById(LobbyId.from(command.lobbyId()))
             .orElseThrow(() -> new IllegalArgumentException("Lobby not found"));
 
         // Load player
@@ -49,7 +49,7 @@ public class JoinLobbyUseCase {
         // Convert players to DTOs for response
         List<PlayerDTO> players = lobby.getPlayers().stream()
             .map(p -> PlayerDTO.fromDomain(
-                p.getId().getValue().toString(),
+                p.getId().asString(),
                 p.getName(),
                 p.getChips().getAmount()
             ))
@@ -61,14 +61,14 @@ public class JoinLobbyUseCase {
             lobby.getPlayers().size(),
             lobby.getMaxPlayers(),
             lobby.isOpen(),
-            lobby.getAdminPlayerId().getValue().toString(),
+            lobby.getAdminPlayerId().asString(),
             players
         );
 
         // Publish domain event to notify all lobby subscribers
         List<PlayerData> eventPlayers = lobby.getPlayers().stream()
             .map(p -> new PlayerData(
-                p.getId().getValue().toString(),
+                p.getId().asString(),
                 p.getName(),
                 p.getChips().getAmount()
             ))
@@ -80,7 +80,7 @@ public class JoinLobbyUseCase {
             lobby.getPlayers().size(),
             lobby.getMaxPlayers(),
             lobby.isOpen(),
-            lobby.getAdminPlayerId().getValue().toString(),
+            lobby.getAdminPlayerId().asString(),
             eventPlayers
         );
         eventPublisher.publishToScope(lobby.getId().getValue(), event);
@@ -26,7 +26,7 @@ public class LeaveLobbyUseCase {
 
     public void execute(LeaveLobbyCommand command) {
         // Load lobby
-        Lobby lobby = lobbyRepository.findById(new LobbyId(command.lobbyId()))
+        Lobby lobby = lobbyRepository.findById(LobbyId.from(command.lobbyId()))
             .orElseThrow(() -> new IllegalArgumentException("Lobby not found"));
 
         // Load player
@@ -36,7 +36,7 @@ public class LeaveLobbyUseCase {
         lobby.removePlayer(playerId);
 
         // unsubscribe player from lobby events
-        eventPublisher.unsubscribeFromScope(lobby.getId().getValue(), playerId.getValue().toString());
+        eventPublisher.unsubscribeFromScope(lobby.getId().getValue(), playerId.asString());
         
         // Save updated lobby
         lobbyRepository.save(lobby);
@@ -44,7 +44,7 @@ public class LeaveLobbyUseCase {
         // Publish event to notify all lobby subscribers
         List<PlayerData> eventPlayers = lobby.getPlayers().stream()
             .map(p -> new PlayerData(
-                p.getId().getValue().toString(),
+                p.getId().asString(),
                 p.getName(),
                 p.getChips().getAmount()
             ))
@@ -52,9 +52,9 @@ public class LeaveLobbyUseCase {
 
         PlayerLeftLobbyEvent event = new PlayerLeftLobbyEvent(
             lobby.getId().getValue(),
-            playerId.getValue().toString(),
+            playerId.asString(),
             lobby.getPlayers().size(),
-            lobby.getAdminPlayerId().getValue().toString(),
+            lobby.getAdminPlayerId().asString(),
             lobby.getMaxPlayers(),
             eventPlayers
         );
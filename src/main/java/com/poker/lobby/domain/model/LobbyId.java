@@ -1,29 +1,42 @@
 package com.poker.lobby.domain.model;
 
+import java.util.Objects;
 import java.util.UUID;
 
+import com.poker.shared.domain.valueobject.IdInterner;
+
 /**
  * Lobby identifier value object.
+ *
+ * Instances are interned by value, so the lobby's scope string is one shared
+ * instance wherever it is used as a key.
  */
 public class LobbyId {
+    private static final IdInterner<String, LobbyId> INTERNED = new IdInterner<>();
+
     private final String value;
 
     public LobbyId(String value) {
-        this.value = value;
+        this.value = Objects.requireNonNull(value, "LobbyId value cannot be null");
     }
 
     public static LobbyId generate() {
-        return new LobbyId(UUID.randomUUID().toString());
+        return from(UUID.randomUUID().toString());
     }
 
     public static LobbyId from(String value) {
-        return new LobbyId(value);
+        return INTERNED.intern(Objects.requireNonNull(value, "LobbyId value cannot be null"), LobbyId::new);
     }
 
     public String getValue() {
         return value;
     }    
 
+    @Override
+    public String toString() {
+        return value;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
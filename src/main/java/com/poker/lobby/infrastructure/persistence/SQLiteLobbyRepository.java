@@ -36,7 +36,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
             conn = dbConnection.getConnection();
             conn.setAutoCommit(false);
 
-            if (exists(lobby.getId())) {
+            if (exists(conn, lobby.getId())) {
                 updateLobby(conn, lobby);
             } else {
                 insertLobby(conn, lobby);
@@ -68,7 +68,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
             stmt.setInt(6, 20);    // Default big_blind
             stmt.setString(7, lobby.isStarted() ? "STARTED" : "OPEN");  // status
             stmt.setBoolean(8, lobby.isStarted());
-            stmt.setString(9, lobby.getAdminPlayerId().getValue().toString());
+            stmt.setString(9, lobby.getAdminPlayerId().asString());
             stmt.executeUpdate();
         }
     }
@@ -98,7 +98,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
         try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
             for (Player player : lobby.getPlayers()) {
                 stmt.setString(1, lobby.getId().getValue());
-                stmt.setString(2, player.getId().getValue().toString());
+                stmt.setString(2, player.getId().asString());
                 stmt.executeUpdate();
             }
         }
@@ -108,7 +108,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
     public Optional<Lobby> findById(LobbyId id) {
         Connection conn = null;
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             
             // Single query with JOIN to fetch lobby and all players at once
             // This avoids the N+1 query problem
@@ -160,7 +160,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
                 String adminPlayerId = rs.getString("admin_player_id");
 
                 lobby = new Lobby(
-                    new LobbyId(lobbyId),
+                    LobbyId.from(lobbyId),
                     lobbyName,
                     maxPlayers,
                     PlayerId.from(adminPlayerId)
@@ -202,7 +202,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
         Connection conn = null;
 
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM lobbies WHERE started = 0 ORDER BY created_at DESC";
 
             try (Statement stmt = conn.createStatement()) {
@@ -230,13 +230,13 @@ public class SQLiteLobbyRepository implements LobbyRepository {
         Connection conn = null;
 
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT l.* FROM lobbies l "
                     + "JOIN lobby_players lp ON l.id = lp.lobby_id "
                     + "WHERE lp.player_id = ?";
 
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, playerId.getValue().toString());
+                stmt.setString(1, playerId.asString());
                 ResultSet rs = stmt.executeQuery();
 
                 while (rs.next()) {
@@ -256,14 +256,8 @@ public class SQLiteLobbyRepository implements LobbyRepository {
     public boolean exists(LobbyId id) {
         Connection conn = null;
         try {
-            conn = dbConnection.getConnection();
-            String sql = "SELECT COUNT(*) FROM lobbies WHERE id = ?";
-
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, id.getValue());
-                ResultSet rs = stmt.executeQuery();
-                return rs.next() && rs.getInt(1) > 0;
-            }
+            conn = dbConnection.getReadConnection();
+            return exists(conn, id);
         } catch (SQLException e) {
             throw new RuntimeException("Failed to check lobby existence", e);
         } finally {
@@ -271,6 +265,16 @@ public class SQLiteLobbyRepository implements LobbyRepository {
         }
     }
 
+    private boolean exists(Connection conn, LobbyId id) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM lobbies WHERE id = ?";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, id.getValue());
+            ResultSet rs = stmt.executeQuery();
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
     @Override
     public void delete(LobbyId id) {
         Connection conn = null;
@@ -295,7 +299,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
         Connection conn = null;
 
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM lobbies ORDER BY created_at DESC";
 
             try (Statement stmt = conn.createStatement()) {
@@ -320,7 +324,7 @@ public class SQLiteLobbyRepository implements LobbyRepository {
         int maxPlayers = rs.getInt("max_players");
         String adminPlayerId = rs.getString("admin_player_id");
 
-        Lobby lobby = new Lobby(new LobbyId(id), name, maxPlayers, PlayerId.from(adminPlayerId));
+        Lobby lobby = new Lobby(LobbyId.from(id), name, maxPlayers, PlayerId.from(adminPlayerId));
 
         // Load players with their full data using JOIN
         loadLobbyPlayers(conn, lobby);
@@ -28,7 +28,7 @@ public class RegisterPlayerUseCase {
         playerRepository.save(player);
 
         return RegisterPlayerDTO.fromDomain(
-            player.getId().getValue().toString(),
+            player.getId().asString(),
             player.getName(),
             player.getChipsAmount()
         );
@@ -1,7 +1,9 @@
 package com.poker.player.domain.model;
 
 import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.Chips;
 import com.poker.shared.domain.exception.ValidationException;
+import com.poker.shared.domain.ledger.ChipLedger;
 import java.util.Objects;
 
 /**
@@ -9,18 +11,24 @@ import java.util.Objects;
  * Represents a poker player with identity, chips, and current hand state.
  * 
  * REFACTORED from existing Player class with proper value objects.
+ *
+ * Chips are a plain int until the player is seated at a table; from then on the
+ * balance lives in that table's ChipLedger and every change is a journalled transfer.
+ * getChips() is a view of the balance, built when asked for.
  */
 public class Player {
     private final PlayerId id;
     private final String name;
-    private Chips chips;
+    private int chips; // Balance while not seated at a ledger
+    private ChipLedger ledger;
+    private int seat;
     private PlayerHand hand;
     private boolean folded;
 
     public Player(PlayerId id, String name, Chips initialChips) {
         this.id = Objects.requireNonNull(id, "Player ID cannot be null");
         this.name = validateName(name);
-        this.chips = Objects.requireNonNull(initialChips, "Initial chips cannot be null");
+        this.chips = Objects.requireNonNull(initialChips, "Initial chips cannot be null").getAmount();
         this.hand = PlayerHand.empty();
         this.folded = false;
     }
@@ -56,11 +64,37 @@ public class Player {
     }
 
     public void addChips(int amount) {
-        this.chips = this.chips.add(amount);
+        if (ledger != null) {
+            ledger.buyIn(seat, amount);
+            return;
+        }
+        if (amount < 0 || chips > Integer.MAX_VALUE - amount) {
+            throw new ValidationException("Cannot add " + amount + " to " + chips + " chips");
+        }
+        this.chips += amount;
     }
 
     public void subtractChips(int amount) {
-        this.chips = this.chips.subtract(amount);
+        if (ledger != null) {
+            ledger.transfer(seat, ChipLedger.CASHIER, amount);
+            return;
+        }
+        if (amount < 0 || amount > chips) {
+            throw new ValidationException("Cannot subtract " + amount + " from " + chips + " chips");
+        }
+        this.chips -= amount;
+    }
+
+    /**
+     * Moves the player's chips onto the ledger at the given seat, cashing them out of
+     * the table they were seated at before, if any.
+     */
+    public void seatAt(ChipLedger ledger, int seat) {
+        long balance = this.ledger != null ? this.ledger.cashOut(this.seat) : chips;
+        ledger.buyIn(seat, balance);
+        this.ledger = ledger;
+        this.seat = seat;
+        this.chips = 0;
     }
 
     public void fold() {
@@ -72,11 +106,11 @@ public class Player {
     }
 
     public boolean canAfford(int amount) {
-        return chips.canAfford(amount);
+        return getChipsAmount() >= amount;
     }
 
     public boolean isBroke(int minimumRequired) {
-        return chips.getAmount() < minimumRequired;
+        return getChipsAmount() < minimumRequired;
     }
 
     // Getters
@@ -89,11 +123,11 @@ public class Player {
     }
 
     public Chips getChips() {
-        return chips;
+        return Chips.of(getChipsAmount());
     }
 
     public int getChipsAmount() {
-        return chips.getAmount();
+        return ledger != null ? (int) ledger.balance(seat) : chips;
     }
 
     public PlayerHand getHand() {
@@ -105,12 +139,12 @@ public class Player {
     }
 
     public boolean isAllIn() {
-        return chips.getAmount() == 0;
+        return getChipsAmount() == 0;
     }
 
     @Override
     public String toString() {
-        return name + " (" + chips + ")";
+        return name + " (" + getChips() + ")";
     }
 
     @Override
@@ -1,56 +1,103 @@
 package com.poker.player.domain.model;
 
 import com.poker.shared.domain.valueobject.Card;
-import java.util.ArrayList;
+import com.poker.shared.domain.valueobject.CardSet;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Value Object representing a player's hole cards (private hand).
  * Immutable.
+ *
+ * Two fixed slots of interned cards plus their CardSet mask, so the hand joins the
+ * board with a single OR. The empty hand and every one-card hand are shared
+ * instances: dealing allocates only the two-card hand, and no lists.
  */
 public class PlayerHand {
-    private final List<Card> cards;
+    private static final PlayerHand EMPTY = new PlayerHand(null, null);
+    private static final PlayerHand[] SINGLES = new PlayerHand[52];
 
-    private PlayerHand(List<Card> cards) {
-        this.cards = List.copyOf(cards);
+    static {
+        for (int index = 0; index < SINGLES.length; index++) {
+            SINGLES[index] = new PlayerHand(Card.ofIndex(index), null);
+        }
+    }
+
+    private final Card first;  // null when empty
+    private final Card second; // null unless both cards are dealt
+    private final long mask;
+
+    private PlayerHand(Card first, Card second) {
+        this.first = first;
+        this.second = second;
+        this.mask = (first == null ? 0L : first.getMask()) | (second == null ? 0L : second.getMask());
     }
 
     public static PlayerHand empty() {
-        return new PlayerHand(new ArrayList<>());
+        return EMPTY;
     }
 
     public static PlayerHand of(List<Card> cards) {
         if (cards.size() > 2) {
             throw new IllegalArgumentException("Texas Hold'em player hand cannot have more than 2 cards");
         }
-        return new PlayerHand(cards);
+        PlayerHand hand = EMPTY;
+        for (Card card : cards) {
+            hand = hand.addCard(card);
+        }
+        return hand;
     }
 
     public PlayerHand addCard(Card card) {
-        if (cards.size() >= 2) {
+        Objects.requireNonNull(card, "Card cannot be null");
+        if (second != null) {
             throw new IllegalStateException("Cannot add more than 2 cards to player hand");
         }
-        List<Card> newCards = new ArrayList<>(cards);
-        newCards.add(card);
-        return new PlayerHand(newCards);
+        return first == null ? SINGLES[card.getIndex()] : new PlayerHand(first, card);
     }
 
+    /**
+     * The hole cards in the order dealt, as a new immutable list.
+     */
     public List<Card> getCards() {
-        return cards;
+        if (first == null) {
+            return List.of();
+        }
+        return second == null ? List.of(first) : List.of(first, second);
+    }
+
+    /**
+     * Hole cards as a CardSet, ready to be combined with the board.
+     */
+    public CardSet getCardSet() {
+        return CardSet.fromMask(mask);
+    }
+
+    /**
+     * Hole cards as a CardSet mask.
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * The hole cards together with the board: up to seven cards, by one OR of the masks.
+     */
+    public CardSet with(CardSet board) {
+        return CardSet.fromMask(mask | board.mask());
     }
 
     public int size() {
-        return cards.size();
+        return first == null ? 0 : second == null ? 1 : 2;
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return first == null;
     }
 
     @Override
     public String toString() {
-        return cards.toString();
+        return getCards().toString();
     }
 
     @Override
@@ -58,11 +105,11 @@ public class PlayerHand {
         if (this == o) return true;
         if (!(o instanceof PlayerHand)) return false;
         PlayerHand that = (PlayerHand) o;
-        return cards.equals(that.cards);
+        return Objects.equals(first, that.first) && Objects.equals(second, that.second);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cards);
+        return Objects.hash(first, second);
     }
 }
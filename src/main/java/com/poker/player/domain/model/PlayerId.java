@@ -1,42 +1,82 @@
 package com.poker.player.domain.model;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.poker.shared.domain.valueobject.IdInterner;
+
 /**
  * Value Object representing a unique player identifier.
  * Immutable and based on UUID.
+ *
+ * Every factory returns the one interned PlayerId per UUID. That instance builds its
+ * text and 16-byte forms in the constructor; toBytes() hands out copies of the latter.
  */
 public class PlayerId {
+    private static final IdInterner<UUID, PlayerId> INTERNED = new IdInterner<>();
+
     private final UUID value;
+    private final String text;
+    private final byte[] bytes;
 
     private PlayerId(UUID value) {
         this.value = Objects.requireNonNull(value, "PlayerId value cannot be null");
+        this.text = value.toString();
+        this.bytes = ByteBuffer.allocate(16)
+            .putLong(value.getMostSignificantBits())
+            .putLong(value.getLeastSignificantBits())
+            .array();
     }
 
     public static PlayerId generate() {
-        return new PlayerId(UUID.randomUUID());
+        return from(UUID.randomUUID());
     }
 
     public static PlayerId from(String id) {
         try {
-            return new PlayerId(UUID.fromString(id));
+            return from(UUID.fromString(id));
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid PlayerId format: " + id, e);
         }
     }
 
     public static PlayerId from(UUID uuid) {
-        return new PlayerId(uuid);
+        return INTERNED.intern(Objects.requireNonNull(uuid, "PlayerId value cannot be null"), PlayerId::new);
+    }
+
+    /**
+     * Reads the 16-byte form written by toBytes.
+     */
+    public static PlayerId fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            throw new IllegalArgumentException("PlayerId bytes must be 16 long");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return from(new UUID(buffer.getLong(), buffer.getLong()));
     }
 
     public UUID getValue() {
         return value;
     }
 
+    /**
+     * Canonical string form, computed once; the same String instance on every call.
+     */
+    public String asString() {
+        return text;
+    }
+
+    /**
+     * The UUID as 16 big-endian bytes, e.g. for a BLOB column. A copy of the cached form.
+     */
+    public byte[] toBytes() {
+        return bytes.clone();
+    }
+
     @Override
     public String toString() {
-        return value.toString();
+        return text;
     }
 
     @Override
@@ -49,6 +89,6 @@ public class PlayerId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return value.hashCode();
     }
 }
@@ -23,7 +23,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
         try {
             conn = dbConnection.getConnection();
 
-            if (exists(player.getId())) {
+            if (exists(conn, player.getId())) {
                 updatePlayer(conn, player);
             } else {
                 insertPlayer(conn, player);
@@ -40,7 +40,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
                 + "VALUES (?, ?, ?, datetime('now'), datetime('now'))";
 
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, player.getId().getValue().toString());
+            stmt.setString(1, player.getId().asString());
             stmt.setString(2, player.getName());
             stmt.setInt(3, player.getChips().getAmount());
             stmt.executeUpdate();
@@ -54,7 +54,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, player.getName());
             stmt.setInt(2, player.getChips().getAmount());
-            stmt.setString(3, player.getId().getValue().toString());
+            stmt.setString(3, player.getId().asString());
             stmt.executeUpdate();
         }
     }
@@ -63,11 +63,11 @@ public class SQLitePlayerRepository implements PlayerRepository {
     public Optional<Player> findById(PlayerId id) {
         Connection conn = null;
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM players WHERE id = ?";
 
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, id.getValue().toString());
+                stmt.setString(1, id.asString());
                 ResultSet rs = stmt.executeQuery();
 
                 if (rs.next()) {
@@ -86,7 +86,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
     public Optional<Player> findByName(String name) {
         Connection conn = null;
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM players WHERE name = ?";
 
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -111,7 +111,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
         Connection conn = null;
 
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM players ORDER BY name";
 
             try (Statement stmt = conn.createStatement()) {
@@ -134,14 +134,8 @@ public class SQLitePlayerRepository implements PlayerRepository {
     public boolean exists(PlayerId id) {
         Connection conn = null;
         try {
-            conn = dbConnection.getConnection();
-            String sql = "SELECT COUNT(*) FROM players WHERE id = ?";
-
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, id.getValue().toString());
-                ResultSet rs = stmt.executeQuery();
-                return rs.next() && rs.getInt(1) > 0;
-            }
+            conn = dbConnection.getReadConnection();
+            return exists(conn, id);
         } catch (SQLException e) {
             throw new RuntimeException("Failed to check player existence", e);
         } finally {
@@ -149,6 +143,16 @@ public class SQLitePlayerRepository implements PlayerRepository {
         }
     }
 
+    private boolean exists(Connection conn, PlayerId id) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM players WHERE id = ?";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, id.asString());
+            ResultSet rs = stmt.executeQuery();
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
     @Override
     public void delete(PlayerId id) {
         Connection conn = null;
@@ -157,7 +161,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
             String sql = "DELETE FROM players WHERE id = ?";
 
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, id.getValue().toString());
+                stmt.setString(1, id.asString());
                 stmt.executeUpdate();
             }
         } catch (SQLException e) {
@@ -173,7 +177,7 @@ public class SQLitePlayerRepository implements PlayerRepository {
         Connection conn = null;
 
         try {
-            conn = dbConnection.getConnection();
+            conn = dbConnection.getReadConnection();
             String sql = "SELECT * FROM players ORDER BY chips DESC LIMIT ?";
 
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -1,5 +1,6 @@
 package com.poker.shared.application.dto;
 
+import com.poker.game.application.CalculateEquityUseCase;
 import com.poker.game.application.DealCardsUseCase;
 import com.poker.game.application.PlayerActionUseCase;
 import com.poker.game.application.StartGameUseCase;
@@ -18,6 +19,7 @@ final public class PokerUseCasesDTO {
     final private JoinLobbyUseCase joinLobby;
     final private LeaveLobbyUseCase leaveLobby;
     final private GetLeaderboardUseCase getLeaderboard;
+    final private CalculateEquityUseCase calculateEquity;
 
     public PokerUseCasesDTO(
         RegisterPlayerUseCase registerPlayer,
@@ -27,7 +29,8 @@ final public class PokerUseCasesDTO {
         CreateLobbyUseCase createLobby,
         JoinLobbyUseCase joinLobby,
         LeaveLobbyUseCase leaveLobby,
-        GetLeaderboardUseCase getLeaderboard
+        GetLeaderboardUseCase getLeaderboard,
+        CalculateEquityUseCase calculateEquity
     ) {
         this.registerPlayer = registerPlayer;
         this.startGame = startGame;
@@ -37,6 +40,7 @@ final public class PokerUseCasesDTO {
         this.joinLobby = joinLobby;
         this.leaveLobby = leaveLobby;
         this.getLeaderboard = getLeaderboard;
+        this.calculateEquity = calculateEquity;
     }
 
     public RegisterPlayerUseCase getRegisterPlayer() {
@@ -70,4 +74,8 @@ final public class PokerUseCasesDTO {
     public DealCardsUseCase getDealCards() {
         return dealCards;
     }
-}
\ No newline at end of file
+
+    public CalculateEquityUseCase getCalculateEquity() {
+        return calculateEquity;
+    }
+}
@@ -22,6 +22,10 @@ public enum EventTypeEnum {
     PLAYER_CARDS_DEALT("PLAYER_CARDS_DEALT"),
     WINNER_DETERMINED("WINNER_DETERMINED"),
     GAME_STATE_CHANGED("GAME_STATE_CHANGED"),
+    EQUITY_UPDATED("EQUITY_UPDATED"),
+    TURN_TIMER_STARTED("TURN_TIMER_STARTED"),
+    TIME_BANK_STARTED("TIME_BANK_STARTED"),
+    TURN_TIMED_OUT("TURN_TIMED_OUT"),
 
     // Player actions
     PLAYER_ACTION("PLAYER_ACTION"),
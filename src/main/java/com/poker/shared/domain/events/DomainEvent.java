@@ -1,22 +1,34 @@
 package com.poker.shared.domain.events;
 
 import java.time.Instant;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.poker.shared.domain.enums.EventTypeEnum;
 
 /**
  * Base class for all domain events.
  * Domain events represent something that happened in the domain that domain experts care about.
+ *
+ * Event ids are this node's id and a counter, unique per node without touching
+ * SecureRandom. The publisher stamps each event with its scope, the scope stream's
+ * epoch and that stream's next sequence number as it sends it.
  */
 public abstract class DomainEvent {
-    
+    // NODE_ID tells nodes apart when several serve clients; random per process otherwise
+    private static final String NODE_ID = System.getenv().getOrDefault("NODE_ID",
+        Integer.toHexString(ThreadLocalRandom.current().nextInt()));
+    private static final AtomicLong COUNTER = new AtomicLong();
+
     private final String eventId;
     private final Instant timestamp;
     private final EventTypeEnum eventType;
+    private String scopeId;
+    private long epoch;
+    private long sequence;
 
     protected DomainEvent(EventTypeEnum eventType) {
-        this.eventId = UUID.randomUUID().toString();
+        this.eventId = NODE_ID + "-" + COUNTER.incrementAndGet();
         this.timestamp = Instant.now();
         this.eventType = eventType;
     }
@@ -33,5 +45,36 @@ public abstract class DomainEvent {
         return this.eventType;
     }
 
+    /**
+     * Scope the event was last published to, or null before it is published.
+     */
+    public String scopeId() {
+        return scopeId;
+    }
+
+    /**
+     * Incarnation of the scope's stream; when it changes, numbering started over.
+     * 0 before the event is published.
+     */
+    public long epoch() {
+        return epoch;
+    }
+
+    /**
+     * Position of the event in its scope's stream, from 1; 0 before it is published.
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Called by the publisher as it sends the event to a scope.
+     */
+    public void assignSequence(String scopeId, long epoch, long sequence) {
+        this.scopeId = scopeId;
+        this.epoch = epoch;
+        this.sequence = sequence;
+    }
+
     public abstract Object getData();
 }
@@ -0,0 +1,54 @@
+package com.poker.shared.domain.events;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Numbers each scope's events (a game, a lobby or a player's private channel) in a
+ * gap-free stream from 1, and lets the caller send each event before the next one is
+ * numbered, so clients receive them in sequence order and can tell when they missed one.
+ *
+ * A stream lives until the scope is forgotten. Every stream also carries an epoch, new
+ * each time the stream is created and increasing across restarts, so a client can tell
+ * numbering that started over from a gap or a replay.
+ *
+ * Streams are guarded by a ReentrantLock rather than a monitor: a virtual thread blocked
+ * sending under it unmounts instead of pinning its carrier.
+ */
+public final class EventSequencer {
+    private static final long EPOCH_BASE = System.currentTimeMillis() << 20;
+    private static final AtomicLong STREAMS_CREATED = new AtomicLong();
+
+    private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Stamps the event with the scope's epoch and next number and hands it to send, all
+     * under the scope's lock, so events leave in the order they were numbered.
+     */
+    public void sequence(String scopeId, DomainEvent event, Consumer<DomainEvent> send) {
+        Stream stream = streams.computeIfAbsent(scopeId, id -> new Stream());
+        stream.lock.lock();
+        try {
+            event.assignSequence(scopeId, stream.epoch, ++stream.last);
+            send.accept(event);
+        } finally {
+            stream.lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the scope's stream; if it is used again it starts over at 1 in a new epoch.
+     */
+    public void forget(String scopeId) {
+        streams.remove(scopeId);
+    }
+
+    private static final class Stream {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long epoch = EPOCH_BASE + STREAMS_CREATED.incrementAndGet();
+        private long last; // Guarded by lock
+    }
+}
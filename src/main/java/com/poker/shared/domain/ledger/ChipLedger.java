@@ -0,0 +1,257 @@
+package com.poker.shared.domain.ledger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.poker.shared.domain.exception.ValidationException;
+
+/**
+ * Every chip at one table: a balance per seat, the pot, and the cashier that chips
+ * enter and leave the table through.
+ *
+ * Chips only ever move by transfer between those accounts, each checked so no balance
+ * goes negative or past Integer.MAX_VALUE, and each appended to an in-memory journal.
+ * Balances are longs in an array and the journal is kept in primitive arrays, so
+ * betting allocates nothing.
+ *
+ * openHand() checkpoints every seat and the table total, and rolls the journal over so
+ * it only ever holds the current hand. checkSettlement() then proves the hand against
+ * that checkpoint and the settlement's own figures, not against the ledger's sums.
+ *
+ * Not thread-safe: a table's ledger is only touched by that table's commands.
+ */
+public final class ChipLedger {
+    /** Account number of the pot in the journal. */
+    public static final int POT = -1;
+    /** Account number of the cashier: chips bought in, cashed out or restored from storage. */
+    public static final int CASHIER = -2;
+
+    private static final long MAX_BALANCE = Integer.MAX_VALUE;
+    private static final int INITIAL_JOURNAL_CAPACITY = 64;
+
+    private final long[] balances;
+    private long pot;
+    private long cashier; // Goes negative as chips come onto the table
+
+    // Checkpoint taken by openHand()
+    private final long[] handStart;
+    private long handStartTotal;
+    private boolean handOpen;
+
+    // Journal, one transfer per index
+    private int[] journalFrom = new int[INITIAL_JOURNAL_CAPACITY];
+    private int[] journalTo = new int[INITIAL_JOURNAL_CAPACITY];
+    private long[] journalAmount = new long[INITIAL_JOURNAL_CAPACITY];
+    private int journalSize;
+
+    public ChipLedger(int seats) {
+        if (seats < 0) {
+            throw new IllegalArgumentException("Seat count cannot be negative: " + seats);
+        }
+        this.balances = new long[seats];
+        this.handStart = new long[seats];
+    }
+
+    /**
+     * Starts a hand: records each seat's stack and the chips on the table, and clears
+     * the journal of the previous hand.
+     */
+    public void openHand() {
+        openHand(new int[balances.length]);
+    }
+
+    /**
+     * Starts a hand that is already under way, e.g. one restored from storage: each seat
+     * started with its balance plus what it has already put in.
+     *
+     * @param contributed Chips each seat has already put in this hand
+     */
+    public void openHand(int[] contributed) {
+        if (contributed.length != balances.length) {
+            throw new IllegalArgumentException("Expected " + balances.length + " seats, got " + contributed.length);
+        }
+        for (int seat = 0; seat < balances.length; seat++) {
+            handStart[seat] = balances[seat] + contributed[seat];
+        }
+        handStartTotal = total();
+        handOpen = true;
+        journalSize = 0;
+    }
+
+    /**
+     * Checks a settled hand against openHand(): the pot is empty, the table holds the
+     * chips it started with, and every seat holds its starting stack minus what it put
+     * in plus what it won.
+     *
+     * @param contributions Chips each seat put in this hand
+     * @param payouts       Chips each seat won
+     * @throws IllegalStateException If no hand is open or any account does not add up
+     */
+    public void checkSettlement(int[] contributions, int[] payouts) {
+        if (!handOpen) {
+            throw new IllegalStateException("No hand open");
+        }
+        if (pot != 0) {
+            throw new IllegalStateException(pot + " chips left in the pot");
+        }
+        long total = total();
+        if (total != handStartTotal) {
+            throw new IllegalStateException("Table holds " + total + " chips, started the hand with " + handStartTotal);
+        }
+        for (int seat = 0; seat < balances.length; seat++) {
+            long expected = handStart[seat] - contributions[seat] + payouts[seat];
+            if (balances[seat] != expected) {
+                throw new IllegalStateException("Seat " + seat + " holds " + balances[seat] + " chips, expected "
+                    + handStart[seat] + " - " + contributions[seat] + " + " + payouts[seat]);
+            }
+        }
+        handOpen = false;
+    }
+
+    /**
+     * Brings a player's stack to the table from the cashier.
+     */
+    public void buyIn(int seat, long amount) {
+        transfer(CASHIER, seat, amount);
+    }
+
+    /**
+     * Sends the seat's whole balance back to the cashier.
+     *
+     * @return The amount cashed out
+     */
+    public long cashOut(int seat) {
+        long amount = balances[seat];
+        transfer(seat, CASHIER, amount);
+        return amount;
+    }
+
+    /**
+     * Moves chips from the seat into the pot.
+     */
+    public void bet(int seat, long amount) {
+        transfer(seat, POT, amount);
+    }
+
+    /**
+     * Pays chips out of the pot to the seat.
+     */
+    public void award(int seat, long amount) {
+        transfer(POT, seat, amount);
+    }
+
+    /**
+     * Puts chips in the pot that no seat paid here, e.g. a pot restored from storage.
+     */
+    public void restorePot(long amount) {
+        transfer(CASHIER, POT, amount);
+    }
+
+    /**
+     * Returns whatever is left in the pot to the cashier.
+     */
+    public void clearPot() {
+        transfer(POT, CASHIER, pot);
+    }
+
+    /**
+     * Moves chips between any two accounts: seats, POT or CASHIER.
+     *
+     * @throws ValidationException If the amount is negative, the source cannot cover it
+     *                             or the target would overflow
+     */
+    public void transfer(int from, int to, long amount) {
+        if (amount < 0) {
+            throw new ValidationException("Cannot transfer a negative amount: " + amount);
+        }
+        if (amount == 0) {
+            return;
+        }
+        if (from != CASHIER && balanceOf(from) < amount) {
+            throw new ValidationException("Cannot subtract " + amount + " from " + balanceOf(from) + " chips");
+        }
+        if (to != CASHIER && balanceOf(to) > MAX_BALANCE - amount) {
+            throw new ValidationException("Chip balance would overflow: " + balanceOf(to) + " + " + amount);
+        }
+
+        adjust(from, -amount);
+        adjust(to, amount);
+        append(from, to, amount);
+    }
+
+    public long balance(int seat) {
+        return balances[seat];
+    }
+
+    public long pot() {
+        return pot;
+    }
+
+    /**
+     * The cashier's balance: minus the chips it has let onto the table.
+     */
+    public long cashier() {
+        return cashier;
+    }
+
+    public int seats() {
+        return balances.length;
+    }
+
+    /**
+     * Chips on the table: every seat plus the pot.
+     */
+    public long total() {
+        long total = pot;
+        for (long balance : balances) {
+            total += balance;
+        }
+        return total;
+    }
+
+    public int journalSize() {
+        return journalSize;
+    }
+
+    /**
+     * This hand's journal from the given index on, oldest first. Built on demand, for audits.
+     */
+    public List<Transfer> journal(int fromIndex) {
+        List<Transfer> transfers = new ArrayList<>(Math.max(0, journalSize - fromIndex));
+        for (int i = fromIndex; i < journalSize; i++) {
+            transfers.add(new Transfer(journalFrom[i], journalTo[i], journalAmount[i]));
+        }
+        return transfers;
+    }
+
+    private long balanceOf(int account) {
+        return account == POT ? pot : balances[account];
+    }
+
+    private void adjust(int account, long delta) {
+        switch (account) {
+            case POT -> pot += delta;
+            case CASHIER -> cashier += delta;
+            default -> balances[account] += delta;
+        }
+    }
+
+    private void append(int from, int to, long amount) {
+        if (journalSize == journalAmount.length) {
+            int capacity = journalSize * 2;
+            journalFrom = Arrays.copyOf(journalFrom, capacity);
+            journalTo = Arrays.copyOf(journalTo, capacity);
+            journalAmount = Arrays.copyOf(journalAmount, capacity);
+        }
+        journalFrom[journalSize] = from;
+        journalTo[journalSize] = to;
+        journalAmount[journalSize] = amount;
+        journalSize++;
+    }
+
+    /**
+     * One journal entry. Accounts are seat numbers, POT or CASHIER.
+     */
+    public record Transfer(int from, int to, long amount) {}
+}
@@ -0,0 +1,105 @@
+package com.poker.shared.domain.random;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Value Object holding the seed material a hand was shuffled from. Immutable.
+ *
+ * A 64-bit seed shuffles with SplittableRandom, as the SPLITTABLE and SEEDED modes
+ * draw. A 256-bit seed shuffles with L64X256MixRandom, whose state holds all of it:
+ * enough to reach every one of the 52! deck orders, which need about 226 bits. The
+ * generator follows from the seed alone, so any recorded hand replays under any mode.
+ */
+public final class HandSeed {
+    /** Length of the seeds SECURE draws. */
+    public static final int STRONG_BYTES = 32;
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final RandomGeneratorFactory<RandomGenerator> STRONG =
+        RandomGeneratorFactory.of("L64X256MixRandom");
+
+    private final byte[] material;
+
+    private HandSeed(byte[] material) {
+        this.material = material;
+    }
+
+    public static HandSeed of(long seed) {
+        byte[] material = new byte[Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            material[i] = (byte) (seed >>> (56 - 8 * i));
+        }
+        return new HandSeed(material);
+    }
+
+    /**
+     * @param material Eight or STRONG_BYTES bytes, copied
+     */
+    public static HandSeed of(byte[] material) {
+        if (material.length != Long.BYTES && material.length != STRONG_BYTES) {
+            throw new IllegalArgumentException("Hand seed must be " + Long.BYTES + " or " + STRONG_BYTES
+                + " bytes, got " + material.length);
+        }
+        return new HandSeed(material.clone());
+    }
+
+    /**
+     * Parses the form written by toHex().
+     */
+    public static HandSeed fromHex(String hex) {
+        return of(HEX.parseHex(hex));
+    }
+
+    /**
+     * A fresh generator that shuffles the hand: the same seed always gives the same one.
+     */
+    public RandomGenerator newGenerator() {
+        if (material.length == Long.BYTES) {
+            return new SplittableRandom(asLong());
+        }
+        return STRONG.create(material.clone());
+    }
+
+    /**
+     * True for 256-bit seed material.
+     */
+    public boolean isStrong() {
+        return material.length == STRONG_BYTES;
+    }
+
+    /**
+     * The first 64 bits of the material.
+     */
+    public long asLong() {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (material[i] & 0xFF);
+        }
+        return value;
+    }
+
+    public String toHex() {
+        return HEX.formatHex(material);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HandSeed)) return false;
+        return Arrays.equals(material, ((HandSeed) o).material);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(material);
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+}
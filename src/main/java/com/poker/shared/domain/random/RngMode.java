@@ -0,0 +1,89 @@
+package com.poker.shared.domain.random;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Enum of the shuffle randomness modes, chosen through the RNG_MODE environment variable.
+ *
+ * SPLITTABLE gives each table its own SplittableRandom (default), SECURE its own
+ * SecureRandom, and SEEDED derives every table's generator from RNG_SEED, so the same
+ * tables created in the same order deal the same hands.
+ *
+ * Only SECURE is fit for real-money play: its 256-bit hand seeds cannot be predicted
+ * from earlier hands and can reach every deck order. SPLITTABLE's 64-bit seeds reach
+ * a vanishing fraction of the 52! orders and its state can be recovered from output,
+ * so it suits play money and development; SEEDED is for load tests and replays only.
+ *
+ * The non-deterministic modes can also share a pool of pre-shuffled decks (see
+ * ShuffledDeckPool.shared). An unrecognised RNG_MODE stops the server from starting
+ * rather than quietly falling back to a weaker mode.
+ */
+public enum RngMode {
+    SPLITTABLE,
+    SECURE,
+    SEEDED;
+
+    private static final RngMode CONFIGURED =
+        fromString(System.getenv().getOrDefault("RNG_MODE", SPLITTABLE.name()));
+    private static final long CONFIGURED_SEED =
+        Long.parseLong(System.getenv().getOrDefault("RNG_SEED", "0"));
+
+    private static final SplittableRandom RANDOM_ROOT = new SplittableRandom();
+    private static SplittableRandom seededRoot = new SplittableRandom(CONFIGURED_SEED);
+
+    /**
+     * Creates the provider for a new table.
+     */
+    public RngProvider create() {
+        return switch (this) {
+            case SPLITTABLE -> new SplittableRngProvider(splitRandom());
+            case SECURE -> new SecureRngProvider();
+            case SEEDED -> new SplittableRngProvider(splitSeeded());
+        };
+    }
+
+    /**
+     * Restarts the SEEDED sequence of tables from the given seed (load tests, replays).
+     */
+    public static synchronized void reseed(long seed) {
+        seededRoot = new SplittableRandom(seed);
+    }
+
+    private static synchronized SplittableRandom splitRandom() {
+        return RANDOM_ROOT.split();
+    }
+
+    private static synchronized SplittableRandom splitSeeded() {
+        return seededRoot.split();
+    }
+
+    /**
+     * Returns the mode selected by configuration.
+     */
+    public static RngMode configured() {
+        return CONFIGURED;
+    }
+
+    /**
+     * Parse a mode; SPLITTABLE when none is given.
+     *
+     * @throws IllegalArgumentException If the value names no mode
+     */
+    public static RngMode fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return SPLITTABLE;
+        }
+
+        String upperValue = value.trim().toUpperCase();
+
+        for (RngMode mode : RngMode.values()) {
+            if (mode.name().equals(upperValue)) {
+                return mode;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown RNG_MODE '" + value + "', expected one of "
+            + Arrays.toString(values()));
+    }
+}
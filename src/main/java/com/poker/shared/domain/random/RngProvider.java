@@ -0,0 +1,41 @@
+package com.poker.shared.domain.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of shuffle randomness for one table.
+ *
+ * Every hand is shuffled from a HandSeed drawn from the provider. The seed is
+ * recorded with the hand, and forHand(seed) always gives the same generator for the
+ * same seed, so any hand can be dealt again card for card.
+ *
+ * Implementations are owned by a single table and need not be thread-safe.
+ */
+public interface RngProvider {
+
+    /**
+     * Draws the seed of the next hand.
+     */
+    HandSeed nextHandSeed();
+
+    /**
+     * Generator that shuffles the hand with the given seed.
+     */
+    default RandomGenerator forHand(HandSeed handSeed) {
+        return handSeed.newGenerator();
+    }
+
+    /**
+     * Replays recorded hands: returns the given seeds in order, then fails.
+     */
+    static RngProvider replaying(HandSeed... handSeeds) {
+        HandSeed[] seeds = handSeeds.clone();
+        int[] next = {0};
+        return () -> {
+            if (next[0] == seeds.length) {
+                throw new IllegalStateException("No recorded hand seed left to replay");
+            }
+            return seeds[next[0]++];
+        };
+    }
+}
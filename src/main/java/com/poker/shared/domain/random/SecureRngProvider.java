@@ -0,0 +1,39 @@
+package com.poker.shared.domain.random;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Per-table SecureRandom for hand seeds nobody can predict from earlier hands.
+ * Each hand gets 256 bits of seed material, shuffled with L64X256MixRandom (see
+ * HandSeed), so every deck order can come up. Entropy is read in batches of
+ * BATCH_SEEDS seeds, so the (slow, internally synchronized) SecureRandom is hit
+ * once per batch rather than once per hand.
+ */
+public class SecureRngProvider implements RngProvider {
+    private static final int BATCH_SEEDS = 64;
+
+    private final SecureRandom random;
+    private final byte[] batch = new byte[BATCH_SEEDS * HandSeed.STRONG_BYTES];
+    private int position;
+
+    public SecureRngProvider() {
+        this(new SecureRandom());
+    }
+
+    public SecureRngProvider(SecureRandom random) {
+        this.random = random;
+        this.position = batch.length; // Empty until the first draw
+    }
+
+    @Override
+    public HandSeed nextHandSeed() {
+        if (position == batch.length) {
+            random.nextBytes(batch);
+            position = 0;
+        }
+        int start = position;
+        position += HandSeed.STRONG_BYTES;
+        return HandSeed.of(Arrays.copyOfRange(batch, start, position));
+    }
+}
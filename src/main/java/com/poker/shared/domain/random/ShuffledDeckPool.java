@@ -0,0 +1,210 @@
+package com.poker.shared.domain.random;
+
+import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.Deck;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of pre-shuffled decks, filled by a background daemon thread so that
+ * drawing entropy and shuffling stay off the hand-start path.
+ *
+ * Each entry keeps the hand seed it was shuffled from, so a pooled hand is recorded
+ * and replayed exactly like an inline one. When the pool drops to the low watermark
+ * the filler tops it up to capacity; when it is empty, poll() returns null and the
+ * table shuffles inline. Sized by DECK_POOL_SIZE (0 disables it) and
+ * DECK_POOL_LOW_WATERMARK.
+ *
+ * Only SECURE gets a pool unless DECK_POOL_SIZE is set: drawing from SecureRandom is
+ * what makes its shuffles slow, while a SplittableRandom shuffle costs less than the
+ * handoff through the pool.
+ */
+public final class ShuffledDeckPool implements AutoCloseable {
+
+    private static final String CONFIGURED_CAPACITY = System.getenv().getOrDefault("DECK_POOL_SIZE", "").trim();
+    private static final int SECURE_DEFAULT_CAPACITY = 256;
+    private static final int DEFAULT_LOW_WATERMARK =
+        Integer.parseInt(System.getenv().getOrDefault("DECK_POOL_LOW_WATERMARK", "64"));
+
+    // Process-wide pools by mode, started on first use; null values mean "none"
+    private static final Map<RngMode, ShuffledDeckPool> SHARED = new EnumMap<>(RngMode.class);
+
+    private final RngProvider seedSource;
+    private final int capacity;
+    private final int lowWatermark;
+    private final BlockingQueue<ShuffledDeck> decks;
+    private final Object refillSignal = new Object();
+    private final Thread filler;
+    private volatile boolean running = true;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder shuffled = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+
+    /**
+     * @param seedSource Provider the pool draws hand seeds from; used by the filler thread only
+     * @param capacity Number of decks kept ready (high watermark)
+     * @param lowWatermark Refill starts when the pool holds this many decks or fewer
+     */
+    public ShuffledDeckPool(RngProvider seedSource, int capacity, int lowWatermark) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pool capacity must be positive, got " + capacity);
+        }
+        if (lowWatermark < 0 || lowWatermark >= capacity) {
+            throw new IllegalArgumentException("Low watermark must be in [0, " + capacity + "), got " + lowWatermark);
+        }
+        this.seedSource = seedSource;
+        this.capacity = capacity;
+        this.lowWatermark = lowWatermark;
+        this.decks = new ArrayBlockingQueue<>(capacity);
+        this.filler = new Thread(this::fillLoop, "deck-pool-filler");
+        this.filler.setDaemon(true);
+        this.filler.start();
+    }
+
+    /**
+     * The pool every table of the given mode draws from, started on first use. SEEDED
+     * has none, nor does any mode when DECK_POOL_SIZE is 0: each table's hands must then
+     * come from its own generator.
+     */
+    public static synchronized ShuffledDeckPool shared(RngMode mode) {
+        if (!SHARED.containsKey(mode)) {
+            SHARED.put(mode, mode == RngMode.SEEDED ? null : configured(mode.create(), capacityFor(mode)));
+        }
+        return SHARED.get(mode);
+    }
+
+    /**
+     * Closes every shared pool started so far.
+     *
+     * @return Their stats by mode, for the shutdown log
+     */
+    public static synchronized Map<RngMode, Stats> closeShared() {
+        Map<RngMode, Stats> stats = new EnumMap<>(RngMode.class);
+        SHARED.forEach((mode, pool) -> {
+            if (pool != null) {
+                stats.put(mode, pool.stats());
+                pool.close();
+            }
+        });
+        SHARED.clear();
+        return stats;
+    }
+
+    /**
+     * DECK_POOL_SIZE when set; otherwise SECURE_DEFAULT_CAPACITY for SECURE and 0 for
+     * the other modes.
+     */
+    static int capacityFor(RngMode mode) {
+        if (!CONFIGURED_CAPACITY.isEmpty()) {
+            return Integer.parseInt(CONFIGURED_CAPACITY);
+        }
+        return mode == RngMode.SECURE ? SECURE_DEFAULT_CAPACITY : 0;
+    }
+
+    /**
+     * Pool of the given capacity, with the configured low watermark, or null when the
+     * capacity is 0.
+     */
+    static ShuffledDeckPool configured(RngProvider seedSource, int capacity) {
+        if (capacity <= 0) {
+            return null;
+        }
+        int lowWatermark = Math.min(DEFAULT_LOW_WATERMARK, capacity - 1);
+        return new ShuffledDeckPool(seedSource, capacity, Math.max(0, lowWatermark));
+    }
+
+    /**
+     * Takes a ready deck, or returns null (counted as a miss) when the pool is empty.
+     */
+    public ShuffledDeck poll() {
+        ShuffledDeck deck = decks.poll();
+        if (deck == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        if (decks.size() <= lowWatermark) {
+            synchronized (refillSignal) {
+                refillSignal.notifyAll();
+            }
+        }
+        return deck;
+    }
+
+    private void fillLoop() {
+        Deck scratch = new Deck();
+        while (running) {
+            synchronized (refillSignal) {
+                while (running && decks.size() > lowWatermark) {
+                    try {
+                        refillSignal.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            if (!running) {
+                return;
+            }
+
+            refills.increment();
+            while (running && decks.remainingCapacity() > 0) {
+                HandSeed seed = seedSource.nextHandSeed();
+                scratch.reset(seedSource.forHand(seed));
+                Card[] order = scratch.getCards().toArray(new Card[0]);
+                if (!decks.offer(new ShuffledDeck(seed, order))) {
+                    break;
+                }
+                shuffled.increment();
+            }
+        }
+    }
+
+    public int size() {
+        return decks.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    /**
+     * Counters since the pool started.
+     */
+    public Stats stats() {
+        return new Stats(decks.size(), capacity, hits.sum(), misses.sum(), shuffled.sum(), refills.sum());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        synchronized (refillSignal) {
+            refillSignal.notifyAll();
+        }
+        filler.interrupt();
+    }
+
+    /**
+     * A deck order and the hand seed it was shuffled from.
+     */
+    public record ShuffledDeck(HandSeed handSeed, Card[] order) {}
+
+    /**
+     * @param size Decks ready now
+     * @param hits Hands started from a pooled deck
+     * @param misses Hands that found the pool empty and shuffled inline
+     * @param shuffled Decks produced by the filler
+     * @param refills Times the pool fell to the low watermark and was topped up
+     */
+    public record Stats(int size, int capacity, long hits, long misses, long shuffled, long refills) {}
+}
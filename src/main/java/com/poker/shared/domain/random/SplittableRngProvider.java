@@ -0,0 +1,21 @@
+package com.poker.shared.domain.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Per-table SplittableRandom drawing hand seeds without any shared state or locking.
+ * Seeded from a fixed root it becomes the deterministic mode used for load tests
+ * and bug replays.
+ */
+public class SplittableRngProvider implements RngProvider {
+    private final SplittableRandom random;
+
+    public SplittableRngProvider(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public HandSeed nextHandSeed() {
+        return HandSeed.of(random.nextLong());
+    }
+}
@@ -0,0 +1,258 @@
+package com.poker.shared.domain.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hashed timing wheel: one ticker thread serves every timeout in the process, however
+ * many tables are running.
+ *
+ * The wheel is a ring of buckets, one per tick. A timeout is hashed to the bucket of
+ * the tick it expires on, with the number of full turns of the wheel still to wait;
+ * scheduling and cancelling are O(1), and each tick only visits its own bucket.
+ * Timeouts fire up to one tick late, never early.
+ *
+ * Tasks run on the ticker thread and must be short: hand real work to an executor.
+ * Sized by TIMER_TICK_MS and TIMER_WHEEL_SIZE.
+ */
+public final class HashedTimingWheel implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(HashedTimingWheel.class.getName());
+
+    private static final long DEFAULT_TICK_MILLIS =
+        Long.parseLong(System.getenv().getOrDefault("TIMER_TICK_MS", "100"));
+    private static final int DEFAULT_WHEEL_SIZE =
+        Integer.parseInt(System.getenv().getOrDefault("TIMER_WHEEL_SIZE", "512"));
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    // Handed over by scheduling threads, moved into buckets by the ticker
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread ticker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick; // Ticker thread only
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    /**
+     * @param tickMillis Resolution of the wheel
+     * @param wheelSize Number of buckets, rounded up to a power of two
+     */
+    public HashedTimingWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive, got " + tickMillis);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("Wheel size must be in [1, 2^20], got " + wheelSize);
+        }
+        int size = Math.max(1, Integer.highestOneBit(wheelSize - 1) << 1);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+        this.ticker = new Thread(this::tickLoop, "timing-wheel");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    /**
+     * Wheel sized from the environment.
+     */
+    public static HashedTimingWheel configured() {
+        return new HashedTimingWheel(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Runs the task on the ticker thread once the delay has passed, unless cancelled first.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel is closed");
+        }
+        long deadline = System.nanoTime() - startNanos + unit.toNanos(Math.max(0, delay));
+        Timeout timeout = new Timeout(task, deadline);
+        pending.incrementAndGet();
+        scheduled.increment();
+        newTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    private void tickLoop() {
+        while (running) {
+            long tickDeadline = tickNanos * (tick + 1);
+            long sleepNanos;
+            while (running && (sleepNanos = startNanos + tickDeadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+            }
+            if (!running) {
+                return;
+            }
+
+            transferNewTimeouts();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    private void transferNewTimeouts() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expiryTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            wheel[(int) (expiryTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Timeouts scheduled and not yet fired or cancelled.
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Counters since the wheel started.
+     */
+    public Stats stats() {
+        return new Stats(pending.get(), scheduled.sum(), expired.sum(), cancelled.sum());
+    }
+
+    /**
+     * Stops the ticker; timeouts still pending never fire.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+
+    /**
+     * Handle on a scheduled task.
+     */
+    public final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        // Bucket links and rounds, touched by the ticker thread only
+        private long remainingRounds;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Stops the task from running. Returns false if it already ran or was cancelled;
+         * the entry itself leaves its bucket the next time the wheel passes it.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return false;
+            }
+            pending.decrementAndGet();
+            cancelled.increment();
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(WAITING, EXPIRED)) {
+                return;
+            }
+            pending.decrementAndGet();
+            expired.increment();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Timer task failed", e);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts hashed to one tick; ticker thread only.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+        }
+    }
+
+    /**
+     * @param pending Timeouts waiting to fire
+     * @param scheduled Timeouts scheduled
+     * @param expired Timeouts that fired
+     * @param cancelled Timeouts cancelled before firing
+     */
+    public record Stats(int pending, long scheduled, long expired, long cancelled) {}
+}
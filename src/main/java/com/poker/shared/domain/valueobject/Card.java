@@ -5,24 +5,78 @@ import java.util.Objects;
 /**
  * Immutable value object representing a playing card.
  * Part of the shared domain - fundamental building block of poker.
- * 
+ *
+ * The 52 canonical cards are interned (flyweight): obtain them through
+ * Card.of(Rank, Suit) or Card.ofIndex(int) instead of allocating new ones.
+ * Each card has a stable index (suit * 13 + rank, 0..51) and a matching
+ * 64-bit mask bit used by CardSet.
+ *
  * REUSED from existing implementation - proven, well-tested design.
  */
 public class Card {
+    public static final int DECK_SIZE = 52;
+    private static final int RANKS_PER_SUIT = 13;
+
+    private static final Card[] UNIVERSE = new Card[DECK_SIZE];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(rank, suit);
+                UNIVERSE[card.index] = card;
+            }
+        }
+    }
+
     private final Suit suit;
     private final Rank rank;
+    private final int index;
 
     public Card(Rank rank, Suit suit) {
         this.rank = Objects.requireNonNull(rank, "Rank cannot be null");
         this.suit = Objects.requireNonNull(suit, "Suit cannot be null");
+        this.index = suit.ordinal() * RANKS_PER_SUIT + rank.ordinal();
+    }
+
+    /**
+     * Returns the interned card for a rank and suit.
+     */
+    public static Card of(Rank rank, Suit suit) {
+        Objects.requireNonNull(rank, "Rank cannot be null");
+        Objects.requireNonNull(suit, "Suit cannot be null");
+        return UNIVERSE[suit.ordinal() * RANKS_PER_SUIT + rank.ordinal()];
     }
 
-    public Suit getSuit() { 
-        return suit; 
+    /**
+     * Returns the interned card with the given index (0..51).
+     */
+    public static Card ofIndex(int index) {
+        if (index < 0 || index >= DECK_SIZE) {
+            throw new IllegalArgumentException("Card index out of range: " + index);
+        }
+        return UNIVERSE[index];
     }
-    
-    public Rank getRank() { 
-        return rank; 
+
+    public Suit getSuit() {
+        return suit;
+    }
+
+    public Rank getRank() {
+        return rank;
+    }
+
+    /**
+     * Stable index of this card: suit ordinal * 13 + rank ordinal.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Single-bit mask of this card, see CardSet.
+     */
+    public long getMask() {
+        return 1L << index;
     }
 
     @Override
@@ -30,7 +84,7 @@ public class Card {
         // Returns something like "A♥" or "10♠"
         return rank.toString() + suit.toString();
     }
-    
+
     /**
      * Parse a card from its string representation (e.g., "A♥", "10♠")
      */
@@ -38,16 +92,16 @@ public class Card {
         if (cardString == null || cardString.isEmpty()) {
             return null;
         }
-        
+
         // Extract suit (last character)
         String suitStr = cardString.substring(cardString.length() - 1);
         Suit suit = Suit.fromSymbol(suitStr);
-        
+
         // Extract rank (everything except last character)
         String rankStr = cardString.substring(0, cardString.length() - 1);
         Rank rank = Rank.fromString(rankStr);
-        
-        return new Card(rank, suit);
+
+        return of(rank, suit);
     }
 
     @Override
@@ -55,11 +109,11 @@ public class Card {
         if (this == o) return true;
         if (!(o instanceof Card)) return false;
         Card card = (Card) o;
-        return suit == card.suit && rank == card.rank;
+        return index == card.index;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(suit, rank);
+        return index;
     }
 }
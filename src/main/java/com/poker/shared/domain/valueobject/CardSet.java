@@ -0,0 +1,130 @@
+package com.poker.shared.domain.valueobject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable value object representing a set of cards as a 64-bit mask.
+ * Bit i is set when Card.ofIndex(i) is in the set, so unions, membership and
+ * size are plain bit arithmetic.
+ *
+ * Within a suit the 13 bits are ordered by rank, so suitMask(suit) is directly
+ * the rank mask of that suit.
+ */
+public final class CardSet {
+    private static final CardSet EMPTY = new CardSet(0L);
+    private static final long FULL_MASK = (1L << Card.DECK_SIZE) - 1;
+    private static final int RANKS_PER_SUIT = 13;
+    private static final long SUIT_MASK = (1L << RANKS_PER_SUIT) - 1;
+
+    private final long mask;
+
+    private CardSet(long mask) {
+        this.mask = mask;
+    }
+
+    public static CardSet empty() {
+        return EMPTY;
+    }
+
+    public static CardSet fromMask(long mask) {
+        if ((mask & ~FULL_MASK) != 0) {
+            throw new IllegalArgumentException("Mask has bits outside the 52-card universe: " + Long.toHexString(mask));
+        }
+        return mask == 0L ? EMPTY : new CardSet(mask);
+    }
+
+    public static CardSet of(Card... cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= card.getMask();
+        }
+        return fromMask(mask);
+    }
+
+    public static CardSet of(Collection<Card> cards) {
+        return fromMask(maskOf(cards));
+    }
+
+    /**
+     * Mask of a list of cards, without creating a CardSet.
+     */
+    public static long maskOf(Collection<Card> cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= card.getMask();
+        }
+        return mask;
+    }
+
+    public CardSet with(Card card) {
+        return fromMask(mask | card.getMask());
+    }
+
+    public CardSet without(Card card) {
+        return fromMask(mask & ~card.getMask());
+    }
+
+    public CardSet union(CardSet other) {
+        return fromMask(mask | other.mask);
+    }
+
+    public boolean contains(Card card) {
+        return (mask & card.getMask()) != 0;
+    }
+
+    public boolean intersects(CardSet other) {
+        return (mask & other.mask) != 0;
+    }
+
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    public boolean isEmpty() {
+        return mask == 0L;
+    }
+
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * 13-bit rank mask of the cards of one suit (bit = rank ordinal).
+     */
+    public int suitMask(Suit suit) {
+        return (int) ((mask >>> (suit.ordinal() * RANKS_PER_SUIT)) & SUIT_MASK);
+    }
+
+    /**
+     * Cards in index order (suit, then rank).
+     */
+    public List<Card> toList() {
+        List<Card> cards = new ArrayList<>(size());
+        long remaining = mask;
+        while (remaining != 0) {
+            cards.add(Card.ofIndex(Long.numberOfTrailingZeros(remaining)));
+            remaining &= remaining - 1;
+        }
+        return cards;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CardSet)) return false;
+        CardSet cardSet = (CardSet) o;
+        return mask == cardSet.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mask);
+    }
+}
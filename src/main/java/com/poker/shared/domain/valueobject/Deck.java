@@ -1,52 +1,121 @@
 package com.poker.shared.domain.valueobject;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Domain entity representing a standard 52-card deck.
  * Part of the shared domain - used in game management.
- * 
+ *
+ * Backed by a fixed array of the interned Card instances: shuffling is an in-place
+ * Fisher-Yates pass and dealing advances a cursor, so a table can reset() and reuse
+ * one deck for every hand without creating garbage.
+ *
  * REUSED from existing implementation with minor enhancements.
  */
 public class Deck {
-    private final List<Card> cards;
+    private final Card[] cards = new Card[Card.DECK_SIZE];
+    private int cursor;
+    private int size;
 
+    /**
+     * A full deck in suit-then-rank order; call shuffle() before dealing.
+     */
     public Deck() {
-        this.cards = generateAllCards();
+        fill();
     }
 
-    private List<Card> generateAllCards() {
-        List<Card> allCards = new ArrayList<>(52);
-        for (Suit suit : Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                allCards.add(new Card(rank, suit));
-            }
+    private void fill() {
+        for (int index = 0; index < Card.DECK_SIZE; index++) {
+            cards[index] = Card.ofIndex(index);
         }
-        return allCards;
+        this.cursor = 0;
+        this.size = Card.DECK_SIZE;
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        shuffle(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Shuffles the cards not yet dealt in place (Fisher-Yates).
+     */
+    public void shuffle(RandomGenerator random) {
+        for (int i = size - 1; i > cursor; i--) {
+            int j = cursor + random.nextInt(i - cursor + 1);
+            Card card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    /**
+     * Puts all 52 cards back and shuffles them, ready for a new hand.
+     */
+    public void reset() {
+        reset(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Puts all 52 cards back and shuffles them with the given generator.
+     */
+    public void reset(RandomGenerator random) {
+        fill();
+        shuffle(random);
+    }
+
+    /**
+     * Puts all 52 cards back in a pre-shuffled order (see ShuffledDeckPool).
+     */
+    public void load(Card[] order) {
+        if (order.length != Card.DECK_SIZE) {
+            throw new IllegalArgumentException("A deck order needs " + Card.DECK_SIZE + " cards, got " + order.length);
+        }
+        System.arraycopy(order, 0, cards, 0, Card.DECK_SIZE);
+        this.cursor = 0;
+        this.size = Card.DECK_SIZE;
     }
 
     public Card dealCard() {
-        if (cards.isEmpty()) {
+        if (cursor == size) {
             throw new IllegalStateException("Cannot deal from empty deck");
         }
-        return cards.remove(0);
+        return cards[cursor++];
+    }
+
+    /**
+     * Takes cards that are already out (held or on the board) out of the deck.
+     */
+    public void removeAll(Collection<Card> dealt) {
+        long mask = 0L;
+        for (Card card : dealt) {
+            mask |= card.getMask();
+        }
+        int kept = cursor;
+        for (int i = cursor; i < size; i++) {
+            if ((mask & cards[i].getMask()) == 0) {
+                cards[kept++] = cards[i];
+            }
+        }
+        this.size = kept;
     }
 
     public List<Card> getCards() {
-        return new ArrayList<>(cards);
+        List<Card> remaining = new ArrayList<>(size());
+        for (int i = cursor; i < size; i++) {
+            remaining.add(cards[i]);
+        }
+        return remaining;
     }
 
     public int size() {
-        return cards.size();
+        return size - cursor;
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return cursor == size;
     }
 }
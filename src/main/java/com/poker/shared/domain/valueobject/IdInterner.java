@@ -0,0 +1,75 @@
+package com.poker.shared.domain.valueobject;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps one canonical instance per id value while anything still holds it.
+ *
+ * Interned ids share their cached string form, so maps keyed by that string find it
+ * by reference and its hash is computed once. Values are held weakly: an id nobody
+ * references any more is dropped, so ids of long-finished games do not pile up.
+ * Thread-safe.
+ */
+public final class IdInterner<K, V> {
+
+    private final Map<K, Entry<K, V>> instances = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> collected = new ReferenceQueue<>();
+
+    /**
+     * The canonical instance for the key, created with the factory if there is none.
+     */
+    public V intern(K key, Function<K, V> factory) {
+        expungeCollected();
+        Entry<K, V> entry = instances.get(key);
+        V existing = entry == null ? null : entry.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        V created = factory.apply(key);
+        while (true) {
+            Entry<K, V> current = instances.putIfAbsent(key, new Entry<>(key, created, collected));
+            if (current == null) {
+                return created;
+            }
+            V winner = current.get();
+            if (winner != null) {
+                return winner; // Another thread interned it first
+            }
+            // Only a cleared entry was there: replace it unless someone else just did
+            if (instances.replace(key, current, new Entry<>(key, created, collected))) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Ids currently interned, cleared entries not yet expunged included.
+     */
+    public int size() {
+        expungeCollected();
+        return instances.size();
+    }
+
+    private void expungeCollected() {
+        Object reference;
+        while ((reference = collected.poll()) != null) {
+            @SuppressWarnings("unchecked")
+            Entry<K, V> entry = (Entry<K, V>) reference;
+            instances.remove(entry.key, entry);
+        }
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+        private final K key;
+
+        Entry(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.poker.shared.infrastructure.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of SQLite connections: one writer and a fixed set of readers.
+ *
+ * SQLite allows one writer at a time, so all writes share a single connection and
+ * queue for it here rather than on the database lock. Readers run alongside it in WAL
+ * mode. Connections are opened once and lent out; closing a lent connection returns it.
+ *
+ * Each connection keeps its own LRU cache of prepared statements, keyed by SQL. A
+ * cached statement survives close(): closing it only clears its parameters and closes
+ * its open result set, so the next prepareStatement with the same SQL reuses it. A
+ * borrower must therefore not keep two statements for the same SQL open at once.
+ *
+ * Leases are reentrant per thread: a thread that already holds the writer (or a
+ * reader) and asks again, e.g. a repository loading players while it reads a game, gets
+ * the same connection back instead of waiting on itself. It goes back to the pool when
+ * the outermost lease is closed, which must happen on the borrowing thread.
+ *
+ * Sized by DB_READERS, DB_STATEMENT_CACHE and DB_POOL_TIMEOUT_MS.
+ */
+public final class ConnectionPool implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+    private static final int DEFAULT_READERS = Integer.parseInt(System.getenv().getOrDefault("DB_READERS",
+        String.valueOf(Math.max(2, Runtime.getRuntime().availableProcessors()))));
+    private static final int DEFAULT_STATEMENT_CACHE =
+        Integer.parseInt(System.getenv().getOrDefault("DB_STATEMENT_CACHE", "64"));
+    private static final long DEFAULT_TIMEOUT_MILLIS =
+        Long.parseLong(System.getenv().getOrDefault("DB_POOL_TIMEOUT_MS", "5000"));
+
+    private final BlockingQueue<PooledConnection> writer = new ArrayBlockingQueue<>(1);
+    private final BlockingQueue<PooledConnection> readers;
+    private final List<PooledConnection> all = new ArrayList<>();
+    private final ThreadLocal<PooledConnection> heldWriter = new ThreadLocal<>();
+    private final ThreadLocal<PooledConnection> heldReader = new ThreadLocal<>();
+    private final int statementCacheSize;
+    private final long timeoutNanos;
+    private volatile boolean closed;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+
+    /**
+     * Opens the writer and every reader up front.
+     *
+     * @param url JDBC URL of the database
+     * @param readerCount Reader connections, at least 1
+     * @param statementCacheSize Prepared statements kept per connection
+     * @param timeoutMillis How long a caller waits for a connection before giving up
+     */
+    public ConnectionPool(String url, int readerCount, int statementCacheSize, long timeoutMillis)
+            throws SQLException {
+        if (readerCount < 1) {
+            throw new IllegalArgumentException("Pool needs at least one reader, got " + readerCount);
+        }
+        if (statementCacheSize < 0 || timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Statement cache size cannot be negative and timeout must be positive");
+        }
+        this.readers = new ArrayBlockingQueue<>(readerCount);
+        this.statementCacheSize = statementCacheSize;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        try {
+            PooledConnection writerConnection = open(url, false);
+            try (Statement stmt = writerConnection.raw.createStatement()) {
+                stmt.execute("PRAGMA journal_mode = WAL");
+            }
+            writer.add(writerConnection);
+            for (int i = 0; i < readerCount; i++) {
+                readers.add(open(url, true));
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Pool sized from the environment.
+     */
+    public static ConnectionPool configured(String url) throws SQLException {
+        return new ConnectionPool(url, DEFAULT_READERS, DEFAULT_STATEMENT_CACHE, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    private PooledConnection open(String url, boolean readOnly) throws SQLException {
+        Connection raw = DriverManager.getConnection(url);
+        raw.setAutoCommit(true);
+        try (Statement stmt = raw.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            if (readOnly) {
+                stmt.execute("PRAGMA query_only = ON");
+            }
+        }
+        PooledConnection connection = readOnly
+            ? new PooledConnection(raw, readers, heldReader)
+            : new PooledConnection(raw, writer, heldWriter);
+        synchronized (all) {
+            all.add(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Borrows the writer connection, waiting while another caller has it.
+     * Close it to give it back; a transaction still open then is rolled back.
+     */
+    public Connection getWriteConnection() throws SQLException {
+        return acquire(writer, heldWriter);
+    }
+
+    /**
+     * Borrows a read-only connection, waiting if all readers are lent out.
+     */
+    public Connection getReadConnection() throws SQLException {
+        return acquire(readers, heldReader);
+    }
+
+    private Connection acquire(BlockingQueue<PooledConnection> queue, ThreadLocal<PooledConnection> held)
+            throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        PooledConnection connection = held.get();
+        if (connection != null) {
+            connection.leases++;
+            acquired.increment();
+            return connection.lend();
+        }
+
+        long start = System.nanoTime();
+        try {
+            connection = queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for a database connection", e);
+        }
+        if (connection == null) {
+            timeouts.increment();
+            throw new SQLException("Timed out after " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos)
+                + " ms waiting for a database connection");
+        }
+        long waited = System.nanoTime() - start;
+        acquired.increment();
+        waitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+        connection.leases = 1;
+        held.set(connection);
+        return connection.lend();
+    }
+
+    /**
+     * Counters since the pool opened.
+     */
+    public Stats stats() {
+        long count = acquired.sum();
+        return new Stats(readers.remainingCapacity() + readers.size(), readers.size(), writer.size() == 0,
+            count, timeouts.sum(),
+            count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(waitNanos.sum() / count),
+            TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()),
+            statementHits.sum(), statementMisses.sum());
+    }
+
+    /**
+     * Closes every connection, lent out or not.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (all) {
+            for (PooledConnection connection : all) {
+                try {
+                    connection.raw.close();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Failed to close pooled connection", e);
+                }
+            }
+            all.clear();
+        }
+    }
+
+    /**
+     * A physical connection, its statement cache, and the queue it goes back to.
+     */
+    private final class PooledConnection {
+        private final Connection raw;
+        private final BlockingQueue<PooledConnection> home;
+        private final ThreadLocal<PooledConnection> held;
+        private final Map<String, CachedStatement> statements;
+        private int leases; // Open leases of the borrowing thread
+
+        PooledConnection(Connection raw, BlockingQueue<PooledConnection> home, ThreadLocal<PooledConnection> held) {
+            this.raw = raw;
+            this.home = home;
+            this.held = held;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                    if (size() <= statementCacheSize) {
+                        return false;
+                    }
+                    eldest.getValue().closeQuietly();
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * A handle for one borrower; it stops working once closed.
+         */
+        Connection lend() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new Lease(this));
+        }
+
+        PreparedStatement prepare(String sql) throws SQLException {
+            CachedStatement cached = statements.get(sql);
+            if (cached != null) {
+                statementHits.increment();
+                return cached.handle;
+            }
+            statementMisses.increment();
+            if (statementCacheSize == 0) {
+                return raw.prepareStatement(sql);
+            }
+            cached = new CachedStatement(raw.prepareStatement(sql));
+            statements.put(sql, cached);
+            return cached.handle;
+        }
+
+        void giveBack() {
+            if (--leases > 0) {
+                return;
+            }
+            held.remove();
+            try {
+                for (CachedStatement statement : statements.values()) {
+                    statement.reset();
+                }
+                if (!raw.getAutoCommit()) {
+                    raw.rollback();
+                    raw.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to reset pooled connection", e);
+            }
+            home.offer(this);
+        }
+    }
+
+    /**
+     * Borrower's view of a pooled connection: close() returns it, and prepareStatement
+     * goes through the statement cache. Everything else goes to the real connection.
+     */
+    private static final class Lease implements InvocationHandler {
+        private final PooledConnection connection;
+        private boolean returned;
+
+        Lease(PooledConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        connection.giveBack();
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || connection.raw.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled" + connection.raw;
+                }
+                default -> { }
+            }
+            if (returned) {
+                throw new SQLException("Connection already returned to the pool");
+            }
+            if (method.getName().equals("prepareStatement") && args.length == 1) {
+                return connection.prepare((String) args[0]);
+            }
+            return delegate(connection.raw, method, args);
+        }
+    }
+
+    /**
+     * A cached statement and the handle lent out for it; closing the handle only resets it.
+     */
+    private static final class CachedStatement implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final PreparedStatement handle;
+        private ResultSet results;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+            this.handle = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    reset();
+                    return null;
+                }
+                case "isClosed" -> {
+                    return statement.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> { }
+            }
+            Object result = delegate(statement, method, args);
+            if (result instanceof ResultSet resultSet) {
+                results = resultSet;
+            }
+            return result;
+        }
+
+        void reset() throws SQLException {
+            if (results != null) {
+                results.close();
+                results = null;
+            }
+            if (!statement.isClosed()) {
+                statement.clearParameters();
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Failed to close evicted statement", e);
+            }
+        }
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @param readers Reader connections in the pool
+     * @param idleReaders Readers not lent out
+     * @param writerBusy Whether the writer is lent out
+     * @param acquired Connections lent out
+     * @param timeouts Callers that gave up waiting for a connection
+     * @param averageWaitMicros Mean wait for a connection
+     * @param maxWaitMicros Longest wait for a connection
+     * @param statementHits prepareStatement calls served from a cache
+     * @param statementMisses prepareStatement calls that compiled a new statement
+     */
+    public record Stats(int readers, int idleReaders, boolean writerBusy, long acquired, long timeouts,
+                        long averageWaitMicros, long maxWaitMicros, long statementHits, long statementMisses) {}
+}
@@ -1,13 +1,15 @@
 package com.poker.shared.infrastructure.database;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
- * Manages SQLite database connections. Singleton pattern for connection
- * pooling. Supports configurable database path via DB_PATH environment
+ * Manages SQLite database connections. Singleton over a ConnectionPool: one
+ * writer connection and a set of readers, each with its own prepared-statement
+ * cache. Supports configurable database path via DB_PATH environment
  * variable.
+ *
+ * Close a connection (or pass it to close) to return it to the pool.
  */
 public class DatabaseConnection {
 
@@ -15,12 +17,19 @@ public class DatabaseConnection {
     private static final String DB_FILE = System.getenv().getOrDefault("DB_PATH", "poker.db");
     private static final String DB_URL = "jdbc:sqlite:" + DB_FILE;
 
+    private final ConnectionPool pool;
+
     private DatabaseConnection() {
         try {
             Class.forName("org.sqlite.JDBC");
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("SQLite JDBC driver not found", e);
         }
+        try {
+            this.pool = ConnectionPool.configured(DB_URL);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to open database " + DB_FILE, e);
+        }
     }
 
     public static synchronized DatabaseConnection getInstance() {
@@ -30,10 +39,23 @@ public class DatabaseConnection {
         return instance;
     }
 
+    /**
+     * The writer connection, for anything that changes the database.
+     * Only one caller holds it at a time.
+     */
     public Connection getConnection() throws SQLException {
-        Connection conn = DriverManager.getConnection(DB_URL);
-        conn.setAutoCommit(true);
-        return conn;
+        return pool.getWriteConnection();
+    }
+
+    /**
+     * A read-only connection; several can be in use alongside the writer.
+     */
+    public Connection getReadConnection() throws SQLException {
+        return pool.getReadConnection();
+    }
+
+    public ConnectionPool.Stats stats() {
+        return pool.stats();
     }
 
     public void close(Connection conn) {
@@ -45,4 +67,11 @@ public class DatabaseConnection {
             }
         }
     }
+
+    /**
+     * Closes every pooled connection, on shutdown.
+     */
+    public void shutdown() {
+        pool.close();
+    }
 }
@@ -71,6 +71,28 @@ public class DatabaseInitializer {
                     System.out.println("Note: players_acted_this_round column already exists or migration not needed");
                 }
             }
+            
+            try {
+                // Migration: Add hand_seed column to games table if it doesn't exist
+                stmt.execute("ALTER TABLE games ADD COLUMN hand_seed INTEGER");
+                System.out.println("Migration: Added hand_seed column to games table");
+            } catch (SQLException e) {
+                // Column might already exist, which is fine
+                if (!e.getMessage().contains("duplicate column name")) {
+                    System.out.println("Note: hand_seed column already exists or migration not needed");
+                }
+            }
+            
+            try {
+                // Migration: Add hand_seed_material column to games table if it doesn't exist
+                stmt.execute("ALTER TABLE games ADD COLUMN hand_seed_material TEXT");
+                System.out.println("Migration: Added hand_seed_material column to games table");
+            } catch (SQLException e) {
+                // Column might already exist, which is fine
+                if (!e.getMessage().contains("duplicate column name")) {
+                    System.out.println("Note: hand_seed_material column already exists or migration not needed");
+                }
+            }
         }
     }
 
@@ -10,6 +10,7 @@ import java.util.logging.Logger;
 import com.google.gson.Gson;
 import com.poker.shared.domain.events.DomainEvent;
 import com.poker.shared.domain.events.DomainEventPublisher;
+import com.poker.shared.domain.events.EventSequencer;
 import com.poker.shared.infrastructure.json.GsonFactory;
 
 import jakarta.websocket.Session;
@@ -20,6 +21,12 @@ import jakarta.websocket.Session;
  * 
  * This is the infrastructure concern that translates domain events into
  * WebSocket messages for real-time communication.
+ *
+ * Every event sent carries its scope's epoch and next sequence number; a player's
+ * private events are numbered in a stream of their own, keyed by player id. Numbering
+ * and sending happen under the scope's lock (see EventSequencer), so clients receive
+ * events in sequence. Streams outlive their subscribers: a player who leaves and comes
+ * back picks up the numbering where it was. A game's stream is dropped with the game.
  */
 public class WebSocketEventPublisher implements DomainEventPublisher {
     private static final Logger LOGGER = Logger.getLogger(WebSocketEventPublisher.class.getName());
@@ -32,9 +39,15 @@ public class WebSocketEventPublisher implements DomainEventPublisher {
     // Map of session -> playerId for identifying clients
     private final Map<Session, String> sessionToPlayer;
 
+    // Reverse of sessionToPlayer, so private events find their session without a scan
+    private final Map<String, Session> playerToSession;
+
+    private final EventSequencer sequencer = new EventSequencer();
+
     private WebSocketEventPublisher() {
         this.subscriptions = new ConcurrentHashMap<>();
         this.sessionToPlayer = new ConcurrentHashMap<>();
+        this.playerToSession = new ConcurrentHashMap<>();
     }
 
     public static synchronized WebSocketEventPublisher getInstance() {
@@ -50,6 +63,7 @@ public class WebSocketEventPublisher implements DomainEventPublisher {
     public void subscribe(String scopeId, Session session, String playerId) {
         subscriptions.computeIfAbsent(scopeId, k -> new CopyOnWriteArraySet<>()).add(session);
         sessionToPlayer.put(session, playerId);
+        playerToSession.put(playerId, session);
         LOGGER.info(() -> String.format("Player %s subscribed to scope %s", playerId, scopeId));
     }
 
@@ -60,15 +74,33 @@ public class WebSocketEventPublisher implements DomainEventPublisher {
         Set<Session> sessions = subscriptions.get(scopeId);
 
         if (sessions == null) {
-            sessionToPlayer.remove(session);
+            forgetSession(session);
             return;
         }        
 
         sessions.remove(session);
+        removeIfEmpty(scopeId, sessions);
+        forgetSession(session);
+    }
+
+    private void removeIfEmpty(String scopeId, Set<Session> sessions) {
         if (sessions.isEmpty()) {
-            subscriptions.remove(scopeId);
+            subscriptions.remove(scopeId, sessions);
+        }
+    }
+
+    private void forgetSession(Session session) {
+        String playerId = sessionToPlayer.remove(session);
+        if (playerId != null) {
+            playerToSession.remove(playerId, session);
         }
-        sessionToPlayer.remove(session);
+    }
+
+    /**
+     * Drops the scope's event numbering, once the game or lobby behind it is gone.
+     */
+    public void forgetScope(String scopeId) {
+        sequencer.forget(scopeId);
     }
     
     @Override
@@ -91,26 +123,27 @@ public class WebSocketEventPublisher implements DomainEventPublisher {
             return;
         }
 
-        String json = gson.toJson(event);
-        
-        int successCount = 0;
-        
-        for (Session session : sessions) {
+        int[] successCount = {0};
+        sequencer.sequence(scopeId, event, numbered -> {
+            String json = gson.toJson(numbered);
 
-            if (!session.isOpen()) {
-                continue;
-            }
+            for (Session session : sessions) {
 
-            try {
-                session.getBasicRemote().sendText(json);
-                successCount++;
-            } catch (IOException e) {
-                LOGGER.warning(() -> String.format("Failed to send event to session %s: %s", 
-                    session.getId(), e.getMessage()));
+                if (!session.isOpen()) {
+                    continue;
+                }
+
+                try {
+                    session.getBasicRemote().sendText(json);
+                    successCount[0]++;
+                } catch (IOException e) {
+                    LOGGER.warning(() -> String.format("Failed to send event to session %s: %s", 
+                        session.getId(), e.getMessage()));
+                }
             }
-        }
+        });
         
-        final int sent = successCount;
+        final int sent = successCount[0];
         
         LOGGER.info(() -> 
             String.format("Published %s event to %d/%d subscribers of scope %s", 
@@ -130,22 +163,25 @@ public class WebSocketEventPublisher implements DomainEventPublisher {
             return;
         }
 
-        String json = gson.toJson(event);
-        
-        try {
-            session.getBasicRemote().sendText(json);
-            LOGGER.info(() -> String.format("Published %s event to player %s", event.eventType(), playerId));
-        } catch (IOException e) {
-            LOGGER.warning(() -> String.format("Failed to send event to player %s: %s", playerId, e.getMessage()));
-        }
+        sequencer.sequence(playerId, event, numbered -> {
+            try {
+                session.getBasicRemote().sendText(gson.toJson(numbered));
+                LOGGER.info(() -> String.format("Published %s event to player %s", event.eventType(), playerId));
+            } catch (IOException e) {
+                LOGGER.warning(() -> String.format("Failed to send event to player %s: %s", playerId, e.getMessage()));
+            }
+        });
     }
 
     /**
      * Remove all subscriptions for a closed session.
      */
     public void cleanupSession(Session session) {
-        sessionToPlayer.remove(session);
-        subscriptions.values().forEach(sessions -> sessions.remove(session));
+        forgetSession(session);
+        subscriptions.forEach((scopeId, sessions) -> {
+            sessions.remove(session);
+            removeIfEmpty(scopeId, sessions);
+        });
         LOGGER.info(() -> String.format("Cleaned up session %s", session.getId()));
     }
 
@@ -160,11 +196,7 @@ public class WebSocketEventPublisher implements DomainEventPublisher {
      * Get session for a specific player ID.
      */
     public Session getSessionByPlayerId(String playerId) {
-        for (Map.Entry<Session, String> entry : sessionToPlayer.entrySet()) {
-            if (entry.getValue().equals(playerId) && entry.getKey().isOpen()) {
-                return entry.getKey();
-            }
-        }
-        return null;
+        Session session = playerToSession.get(playerId);
+        return session != null && session.isOpen() ? session : null;
     }
 }
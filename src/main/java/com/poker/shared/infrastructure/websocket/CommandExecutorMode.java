@@ -0,0 +1,61 @@
+package com.poker.shared.infrastructure.websocket;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Enum of the executors WebSocket commands can run on, chosen through the
+ * COMMAND_EXECUTOR environment variable.
+ *
+ * VIRTUAL starts a virtual thread per task (default), so a command blocked on SQLite or
+ * on a slow peer costs no platform thread. PLATFORM runs on a fixed pool of
+ * COMMAND_THREADS platform threads, for comparing the two under load.
+ * Either way the container's I/O threads only parse and enqueue.
+ */
+public enum CommandExecutorMode {
+    VIRTUAL,
+    PLATFORM;
+
+    private static final CommandExecutorMode CONFIGURED =
+        fromString(System.getenv().getOrDefault("COMMAND_EXECUTOR", VIRTUAL.name()));
+    private static final int CONFIGURED_THREADS = Integer.parseInt(System.getenv().getOrDefault(
+        "COMMAND_THREADS", String.valueOf(Runtime.getRuntime().availableProcessors() * 2)));
+
+    /**
+     * Creates a new executor of this mode.
+     */
+    public ExecutorService newExecutor() {
+        return switch (this) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("command-", 0).factory());
+            case PLATFORM -> Executors.newFixedThreadPool(CONFIGURED_THREADS,
+                Thread.ofPlatform().name("command-", 0).daemon().factory());
+        };
+    }
+
+    /**
+     * Returns the mode selected by configuration.
+     */
+    public static CommandExecutorMode configured() {
+        return CONFIGURED;
+    }
+
+    /**
+     * Parse a mode, falling back to VIRTUAL if not recognized.
+     */
+    public static CommandExecutorMode fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return VIRTUAL;
+        }
+
+        String upperValue = value.trim().toUpperCase();
+
+        for (CommandExecutorMode mode : CommandExecutorMode.values()) {
+            if (mode.name().equals(upperValue)) {
+                return mode;
+            }
+        }
+
+        return VIRTUAL;
+    }
+}
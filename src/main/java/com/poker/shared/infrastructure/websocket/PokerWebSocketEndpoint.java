@@ -66,11 +66,11 @@ public class PokerWebSocketEndpoint {
                 return;
             }
             
-            // Process command through protocol handler (includes subscription logic)
-            WebSocketResponse<?> response = protocolHandler.handle(message, session);
-            
-            // Send response back to requester
-            session.getBasicRemote().sendText(gson.toJson(response));
+            // Process command through protocol handler (includes subscription logic).
+            // Only parsing happens here: every command then runs off the I/O thread, on its
+            // game's or lobby's actor or else the shared executor, which sends the response.
+            // Requests that fail to parse are answered right away
+            protocolHandler.dispatch(message, session, response -> sendResponse(session, response));
             
         } catch (JsonSyntaxException | IOException e) {
             LOGGER.warning(() -> String.format("Error processing message: %s", e.getMessage()));
@@ -83,6 +83,14 @@ public class PokerWebSocketEndpoint {
         }
     }
 
+    private static void sendResponse(Session session, WebSocketResponse<?> response) {
+        try {
+            session.getBasicRemote().sendText(gson.toJson(response));
+        } catch (IOException e) {
+            LOGGER.warning(() -> String.format("Failed to send response to %s: %s", session.getId(), e.getMessage()));
+        }
+    }
+
     @OnClose
     public void onClose(Session session) {
         LOGGER.info(() -> String.format("WebSocket connection closed: %s", session.getId()));
@@ -1,19 +1,26 @@
 package com.poker.shared.infrastructure.websocket;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import com.poker.game.application.CalculateEquityUseCase.CalculateEquityCommand;
 import com.poker.game.application.PlayerActionUseCase.PlayerActionCommand;
 import com.poker.game.application.StartGameUseCase.StartGameCommand;
+import com.poker.game.application.dto.EquityDTO;
 import com.poker.game.application.dto.PlayerActionDTO;
 import com.poker.game.application.dto.StartGameDTO;
 import com.poker.game.application.dto.StartGameRequest;
 import com.poker.game.domain.model.Blinds;
+import com.poker.game.domain.model.GameId;
 import com.poker.lobby.application.CreateLobbyUseCase.CreateLobbyCommand;
 import com.poker.lobby.application.JoinLobbyUseCase.JoinLobbyCommand;
 import com.poker.lobby.application.LeaveLobbyUseCase.LeaveLobbyCommand;
@@ -43,15 +50,94 @@ public class ProtocolHandler {
     
     private final PokerUseCasesDTO pokerUseCases;
     private final WebSocketEventPublisher eventPublisher;
+    private final TableActors tableActors;
 
     public ProtocolHandler(PokerUseCasesDTO pokerUseCases, WebSocketEventPublisher eventPublisher) {
+        this(pokerUseCases, eventPublisher, TableActors.create());
+    }
+
+    public ProtocolHandler(PokerUseCasesDTO pokerUseCases, WebSocketEventPublisher eventPublisher,
+                           TableActors tableActors) {
         this.pokerUseCases = pokerUseCases;
         this.eventPublisher = eventPublisher;
+        this.tableActors = tableActors;
     }
 
     public WebSocketResponse<?> handle(String command, Session session) {
+        ParsedRequest request = parse(command);
+        if (request.error() != null) {
+            return request.error();
+        }
+        return routeCommand(request.commandName(), request.data(), session);
+    }
+
+    /**
+     * Like handle, but only parsing happens on the calling (container I/O) thread; the
+     * command and its reply run on the TableActors executor. A command aimed at a game or
+     * lobby runs on that table's actor, so commands for one table never interleave.
+     * GET_EQUITY only captures the hand there; its reply is sent when the calculation
+     * completes on the equity pool, leaving the actor free for the table's commands.
+     */
+    public void dispatch(String command, Session session, Consumer<WebSocketResponse<?>> reply) {
+        ParsedRequest request = parse(command);
+        if (request.error() != null) {
+            reply.accept(request.error());
+            return;
+        }
+
+        Runnable task = () -> {
+            CompletableFuture<? extends WebSocketResponse<?>> response;
+            try {
+                response = routeCommandAsync(request.commandName(), request.data(), session);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.completedFuture(failed(request.commandName(), e));
+            }
+            response.whenComplete((result, error) ->
+                reply.accept(error == null ? result : failed(request.commandName(), error)));
+        };
+
+        String tableId;
+        try {
+            tableId = tableId(request.data());
+        } catch (IllegalArgumentException e) {
+            reply.accept(WebSocketHelper.errorResponse(e.getMessage()));
+            return;
+        }
+        if (tableId == null) {
+            tableActors.execute(task);
+        } else {
+            tableActors.submit(tableId, task);
+        }
+    }
+
+    /**
+     * The game, or failing that the lobby, a command acts on; null for commands with neither.
+     * Ids are canonicalised through GameId and LobbyId, so every spelling of one table
+     * lands on the same actor.
+     *
+     * @throws IllegalArgumentException If the id is not a string, or not a valid GameId
+     */
+    static String tableId(JsonObject data) {
+        if (data.has("gameId")) {
+            return GameId.from(stringField(data, "gameId")).asString();
+        }
+        if (data.has("lobbyId")) {
+            return LobbyId.from(stringField(data, "lobbyId")).getValue();
+        }
+        return null;
+    }
+
+    private static String stringField(JsonObject data, String field) {
+        JsonElement value = data.get(field);
+        if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException("Field '" + field + "' must be a string, got " + value);
+        }
+        return value.getAsString();
+    }
+
+    private ParsedRequest parse(String command) {
         if (isBlank(command)) {
-            return WebSocketHelper.errorResponse("Empty command");
+            return ParsedRequest.failed(WebSocketHelper.errorResponse("Empty command"));
         }
 
         LOGGER.info(String.format("Parsing message: %s", command));
@@ -61,12 +147,13 @@ public class ProtocolHandler {
             jsonRequest = gson.fromJson(command, JsonObject.class);
         } catch (JsonSyntaxException e) {
             LOGGER.warning(String.format("Invalid JSON format: %s", e.getMessage()));
-            return WebSocketHelper.errorResponse("Invalid JSON format: " + e.getMessage());
+            return ParsedRequest.failed(WebSocketHelper.errorResponse("Invalid JSON format: " + e.getMessage()));
         }
 
         // Validate basic structure
-        if (jsonRequest == null || !jsonRequest.has("command")) {
-            return WebSocketHelper.errorResponse("Invalid request format. Expected JSON with 'command' field");
+        if (jsonRequest == null || !jsonRequest.has("command") || !jsonRequest.get("command").isJsonPrimitive()) {
+            return ParsedRequest.failed(
+                WebSocketHelper.errorResponse("Invalid request format. Expected JSON with 'command' field"));
         }
 
         String commandName = jsonRequest.get("command").getAsString();
@@ -74,12 +161,22 @@ public class ProtocolHandler {
 
         JsonObject data = extractDataObject(jsonRequest, commandName);
         if (data == null) {
-            return WebSocketHelper.errorResponse("Invalid data format. Expected JSON object.");
+            return ParsedRequest.failed(WebSocketHelper.errorResponse("Invalid data format. Expected JSON object."));
         }
 
         LOGGER.info(String.format("Command: %s, Data: %s", commandName, data));
 
-        return routeCommand(commandName, data, session);
+        return new ParsedRequest(commandName, data, null);
+    }
+
+    /**
+     * A parsed command, or the error response explaining why it could not be parsed.
+     */
+    private record ParsedRequest(String commandName, JsonObject data, WebSocketResponse<Void> error) {
+
+        static ParsedRequest failed(WebSocketResponse<Void> error) {
+            return new ParsedRequest(null, null, error);
+        }
     }
 
     private boolean isBlank(String str) {
@@ -99,6 +196,24 @@ public class ProtocolHandler {
         return dataElement.getAsJsonObject();
     }
 
+    private static WebSocketResponse<Void> failed(String commandName, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        LOGGER.warning(String.format("Command %s failed: %s", commandName, cause.getMessage()));
+        return WebSocketHelper.errorResponse(cause.getMessage());
+    }
+
+    /**
+     * Like routeCommand, but commands that finish in the background (GET_EQUITY) return
+     * without waiting for them.
+     */
+    private CompletableFuture<? extends WebSocketResponse<?>> routeCommandAsync(String commandName, JsonObject data,
+                                                                             Session session) {
+        if (WebSocketCommand.fromString(commandName) == WebSocketCommand.GET_EQUITY) {
+            return handleGetEquity(data);
+        }
+        return CompletableFuture.completedFuture(routeCommand(commandName, data, session));
+    }
+
     private WebSocketResponse<?> routeCommand(String commandName, JsonObject data, Session session) {
         WebSocketCommand cmd = WebSocketCommand.fromString(commandName);
 
@@ -117,6 +232,7 @@ public class ProtocolHandler {
             case RAISE          -> handleRaise(data);
             case ALL_IN         -> handleAllIn(data);
             case LEADERBOARD    -> handleLeaderboard(data);
+            case GET_EQUITY     -> handleGetEquity(data).join();
             default             -> WebSocketHelper.errorResponse("Unknown command: ");
         };
     }
@@ -324,6 +440,24 @@ public class ProtocolHandler {
         return response;
     }
 
+    private CompletableFuture<WebSocketResponse<EquityDTO>> handleGetEquity(JsonObject data) {
+        String gameId = data.get("gameId").getAsString();
+        List<String> deadCards = new ArrayList<>();
+        if (data.has("deadCards")) {
+            data.getAsJsonArray("deadCards").forEach(card -> deadCards.add(card.getAsString()));
+        }
+
+        CalculateEquityCommand command = new CalculateEquityCommand(gameId, deadCards);
+        return pokerUseCases.getCalculateEquity().execute(command)
+            .thenApply(dto -> new WebSocketResponse<>(
+                EventTypeEnum.EQUITY_UPDATED,
+                "Equity calculated successfully",
+                true,
+                now,
+                dto
+            ));
+    }
+
     private WebSocketResponse<PlayerActionDTO> executePlayerAction(String gameId, String playerId, PlayerAction action, int amount, EventTypeEnum eventType, String message) {
         PlayerActionCommand command = new PlayerActionCommand(gameId, playerId, action, amount);
         PlayerActionDTO dto = pokerUseCases.getPlayerAction().execute(command);
@@ -0,0 +1,170 @@
+package com.poker.shared.infrastructure.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One actor per table: every command for a game or lobby goes through that table's
+ * mailbox and runs one at a time, in the order it was submitted, without locking the game.
+ * Different tables drain their mailboxes concurrently on the executor.
+ *
+ * A mailbox is scheduled on the executor when its first command arrives and drains
+ * until empty, yielding after a batch so a busy table cannot hog a carrier thread.
+ * Idle mailboxes are dropped and recreated on the next command.
+ */
+public final class TableActors implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(TableActors.class.getName());
+    // Commands a mailbox runs before going back to the executor
+    private static final int BATCH = 32;
+
+    private final ExecutorService executor;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+
+    public TableActors(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Actors on the executor selected by COMMAND_EXECUTOR (virtual threads by default).
+     */
+    public static TableActors create() {
+        return create(CommandExecutorMode.configured());
+    }
+
+    public static TableActors create(CommandExecutorMode mode) {
+        return new TableActors(mode.newExecutor());
+    }
+
+    /**
+     * Queues a command on the table's mailbox. Commands for one table run in submit order.
+     */
+    public void submit(String tableId, Runnable command) {
+        // Enqueue inside compute so an idle mailbox cannot be dropped under the new command
+        mailboxes.compute(tableId, (id, mailbox) -> {
+            Mailbox target = mailbox != null ? mailbox : new Mailbox(id);
+            target.enqueue(command);
+            return target;
+        });
+    }
+
+    /**
+     * Runs a command that belongs to no table straight on the executor, unordered.
+     */
+    public void execute(Runnable command) {
+        executor.execute(() -> runCommand(command, null));
+    }
+
+    private void runCommand(Runnable command, String tableId) {
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            failed.increment();
+            LOGGER.log(Level.WARNING, tableId == null ? "Command failed" : "Command failed on table " + tableId, e);
+        }
+        processed.increment();
+    }
+
+    /**
+     * Commands queued or running for the table; 0 when it is idle.
+     */
+    public int queueDepth(String tableId) {
+        Mailbox mailbox = mailboxes.get(tableId);
+        return mailbox == null ? 0 : mailbox.depth.get();
+    }
+
+    /**
+     * Queue depth of every table with work pending.
+     */
+    public Map<String, Integer> queueDepths() {
+        Map<String, Integer> depths = new HashMap<>();
+        mailboxes.forEach((id, mailbox) -> depths.put(id, mailbox.depth.get()));
+        return depths;
+    }
+
+    /**
+     * Counters since the actors started.
+     */
+    public Stats stats() {
+        int queued = 0;
+        for (Mailbox mailbox : mailboxes.values()) {
+            queued += mailbox.depth.get();
+        }
+        return new Stats(mailboxes.size(), queued, (int) maxQueueDepth.get(), processed.sum(), failed.sum());
+    }
+
+    /**
+     * Stops taking commands and waits briefly for the queued ones to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class Mailbox implements Runnable {
+        private final String tableId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        // Commands queued or running; whoever raises it from 0 schedules the drain
+        private final AtomicInteger depth = new AtomicInteger();
+
+        Mailbox(String tableId) {
+            this.tableId = tableId;
+        }
+
+        void enqueue(Runnable command) {
+            queue.offer(command);
+            int queued = depth.incrementAndGet();
+            maxQueueDepth.accumulate(queued);
+            if (queued == 1) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int ran = 1; ; ran++) {
+                runCommand(queue.poll(), tableId);
+
+                if (depth.decrementAndGet() == 0) {
+                    mailboxes.computeIfPresent(tableId,
+                        (id, mailbox) -> mailbox == this && depth.get() == 0 ? null : mailbox);
+                    return;
+                }
+                if (ran == BATCH) {
+                    executor.execute(this);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param tables Tables with a mailbox (queued or running work)
+     * @param queued Commands queued or running across all tables
+     * @param maxQueueDepth Deepest any single mailbox has been
+     * @param processed Commands run
+     * @param failed Commands that threw
+     */
+    public record Stats(int tables, int queued, int maxQueueDepth, long processed, long failed) {}
+}
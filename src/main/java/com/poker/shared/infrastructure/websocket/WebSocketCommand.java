@@ -30,6 +30,7 @@ public enum WebSocketCommand {
     // Game state commands
     GET_MY_CARDS("GET_MY_CARDS"),
     GET_GAME_STATE("GET_GAME_STATE"),
+    GET_EQUITY("GET_EQUITY"),
     
     // Utility commands
     LEADERBOARD("LEADERBOARD"),
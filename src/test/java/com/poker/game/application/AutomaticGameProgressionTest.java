@@ -3,6 +3,7 @@ package com.poker.game.application;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -240,6 +241,34 @@ class AutomaticGameProgressionTest {
         assertTrue(eventPublisher.hasEventOfType(EventTypeEnum.WINNER_DETERMINED));
     }
 
+    @Test
+    void testTimedOutPlayerFoldsFacingABetAndChecksOtherwise() {
+        StartGameDTO gameDTO = setupGameWithPlayers(3);
+        String gameId = gameDTO.gameId();
+        Game game = gameRepository.findById(GameId.from(gameId)).orElseThrow();
+
+        // Pre-flop everyone faces the blinds: timing out folds
+        Player timedOut = game.getCurrentPlayer();
+        playerActionUseCase.actOnTimeout(gameId, timedOut.getId().getValue().toString());
+        assertTrue(timedOut.isFolded());
+
+        // A timeout for someone whose turn it is not is ignored
+        Player next = game.getCurrentPlayer();
+        playerActionUseCase.actOnTimeout(gameId, timedOut.getId().getValue().toString());
+        assertEquals(next, game.getCurrentPlayer());
+
+        while (game.getState() == GameState.PRE_FLOP) {
+            playerActionUseCase.execute(new PlayerActionUseCase.PlayerActionCommand(
+                gameId, game.getCurrentPlayer().getId().getValue().toString(), PlayerAction.CALL, 0));
+        }
+
+        // Nobody has bet on the flop yet: timing out checks
+        Player checking = game.getCurrentPlayer();
+        playerActionUseCase.actOnTimeout(gameId, checking.getId().getValue().toString());
+        assertFalse(checking.isFolded());
+        assertTrue(game.getPlayersActedThisRound().contains(checking.getId().getValue().toString()));
+    }
+
     // Helper methods
 
     private StartGameDTO setupGameWithPlayers(int playerCount) {
@@ -5,15 +5,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.poker.game.application.dto.EquityDTO;
 import com.poker.game.application.dto.PlayerActionDTO;
 import com.poker.game.application.dto.StartGameDTO;
+import com.poker.game.domain.evaluation.EquityCalculator;
+import com.poker.game.domain.model.BettingRound;
 import com.poker.game.domain.model.Blinds;
 import com.poker.game.domain.model.Game;
 import com.poker.game.domain.model.GameId;
@@ -144,6 +150,49 @@ class GameUseCaseTest {
         assertTrue(foldedPlayer.isFolded());
     }
 
+    @Test
+    void testEquityOnlyOnceBettingIsClosed() {
+        Player alice = Player.create("Alice", 100);
+        Player bob = Player.create("Bob", 1000);
+        playerRepository.save(alice);
+        playerRepository.save(bob);
+        StartGameDTO startGameDTO = startGameUseCase.execute(new StartGameUseCase.StartGameCommand(
+                List.of(alice.getId().getValue().toString(), bob.getId().getValue().toString()),
+                new Blinds(1, 2),
+                LobbyId.generate()
+        ));
+        var equityUseCase = new CalculateEquityUseCase(gameRepository, eventPublisher,
+                new EquityCalculator(ForkJoinPool.commonPool()));
+        var command = new CalculateEquityUseCase.CalculateEquityCommand(startGameDTO.gameId(), List.of());
+
+        // Both players still have a decision to make: no equities
+        Game game = gameRepository.findById(GameId.from(startGameDTO.gameId())).orElseThrow();
+        assertFalse(game.isActionClosed());
+        assertThrows(IllegalStateException.class, () -> equityUseCase.execute(command));
+
+        // One all-in still leaves the other player facing a call
+        Player first = game.getCurrentPlayer();
+        new BettingRound(game.getCurrentRound(), game.getState()).executePlayerAction(first, PlayerAction.ALL_IN, 0);
+        game.recordPlayerAction(first);
+        assertFalse(game.isActionClosed());
+        assertThrows(IllegalStateException.class, () -> equityUseCase.execute(command));
+
+        // Once both are all-in only the board is left to come
+        new BettingRound(game.getCurrentRound(), game.getState())
+                .executePlayerAction(game.getCurrentPlayer(), PlayerAction.ALL_IN, 0);
+        assertTrue(game.isActionClosed());
+        EquityDTO equity = equityUseCase.execute(command).join();
+        assertEquals(2, equity.players().size());
+
+        // Unparseable dead cards are refused up front, naming the bad value
+        for (String bad : List.of("", "Z♠", "10")) {
+            var badCommand = new CalculateEquityUseCase.CalculateEquityCommand(startGameDTO.gameId(), List.of(bad));
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                    () -> equityUseCase.execute(badCommand));
+            assertTrue(error.getMessage().contains("'" + bad + "'"));
+        }
+    }
+
     // Simple in-memory repositories for testing
     static class InMemoryGameRepository implements GameRepository {
 
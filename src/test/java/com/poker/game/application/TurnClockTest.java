@@ -0,0 +1,110 @@
+package com.poker.game.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.poker.game.domain.model.Blinds;
+import com.poker.game.domain.model.Game;
+import com.poker.player.domain.model.Player;
+import com.poker.shared.domain.enums.EventTypeEnum;
+import com.poker.shared.domain.events.DomainEvent;
+import com.poker.shared.domain.events.DomainEventPublisher;
+import com.poker.shared.domain.timer.HashedTimingWheel;
+
+/**
+ * Tests for TurnClock action time, time banks and stale expiries.
+ */
+public class TurnClockTest {
+
+    private final HashedTimingWheel wheel = new HashedTimingWheel(5, 64);
+    private final List<EventTypeEnum> events = Collections.synchronizedList(new ArrayList<>());
+    private final DomainEventPublisher publisher = new DomainEventPublisher() {
+        @Override
+        public void publishToScope(String scopeId, DomainEvent event) {
+            events.add(event.eventType());
+        }
+
+        @Override
+        public void publishToPlayer(String playerId, DomainEvent event) {
+        }
+
+        @Override
+        public void unsubscribeFromScope(String scopeId, String playerId) {
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    private static Game startedGame() {
+        Game game = Game.create(List.of(Player.create("Alice", 1000), Player.create("Bob", 1000)), new Blinds(10, 20));
+        game.start();
+        return game;
+    }
+
+    @Test
+    void testTimesOutCurrentPlayerAfterActionTimeAndTimeBank() throws InterruptedException {
+        TurnClock clock = new TurnClock(wheel, (table, task) -> task.run(), publisher, 30, 30);
+        Game game = startedGame();
+        String gameId = game.getId().getValue().toString();
+        String playerId = game.getCurrentPlayer().getId().getValue().toString();
+        List<String> timedOut = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch expired = new CountDownLatch(1);
+        clock.onTimeout((timedOutGame, timedOutPlayer) -> {
+            timedOut.add(timedOutGame + "/" + timedOutPlayer);
+            expired.countDown();
+        });
+
+        clock.startTurn(game);
+
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(gameId + "/" + playerId), timedOut);
+        assertEquals(List.of(EventTypeEnum.TURN_TIMER_STARTED, EventTypeEnum.TIME_BANK_STARTED,
+            EventTypeEnum.TURN_TIMED_OUT), events);
+        assertEquals(0, clock.getTimeBankMillis(gameId, playerId));
+    }
+
+    @Test
+    void testRestartedTurnCancelsThePreviousClock() throws InterruptedException {
+        TurnClock clock = new TurnClock(wheel, (table, task) -> task.run(), publisher, 40, 0);
+        Game game = startedGame();
+        CountDownLatch expired = new CountDownLatch(1);
+        clock.onTimeout((timedOutGame, timedOutPlayer) -> expired.countDown());
+
+        clock.startTurn(game);
+        clock.startTurn(game);
+
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(1, wheel.stats().expired());
+        assertEquals(1, wheel.stats().cancelled());
+        assertFalse(events.contains(EventTypeEnum.TIME_BANK_STARTED));
+    }
+
+    @Test
+    void testForgottenGameDropsItsClock() throws InterruptedException {
+        TurnClock clock = new TurnClock(wheel, (table, task) -> task.run(), publisher, 30, 0);
+        Game game = startedGame();
+        CountDownLatch expired = new CountDownLatch(1);
+        clock.onTimeout((timedOutGame, timedOutPlayer) -> expired.countDown());
+
+        clock.startTurn(game);
+        assertEquals(1, clock.size());
+        clock.forget(game.getId().asString());
+
+        assertEquals(0, clock.size());
+        assertFalse(expired.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(1, wheel.stats().cancelled());
+    }
+}
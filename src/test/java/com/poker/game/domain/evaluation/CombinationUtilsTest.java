@@ -0,0 +1,53 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the index-based combination enumerator and the list-based helpers built on it.
+ */
+class CombinationUtilsTest {
+
+    @Test
+    void testEnumeratesAllCombinationsInLexicographicOrder() {
+        List<String> visited = new ArrayList<>();
+
+        CombinationUtils.forEachCombination(4, new int[2], indices -> visited.add(Arrays.toString(indices)));
+
+        assertEquals(List.of("[0, 1]", "[0, 2]", "[0, 3]", "[1, 2]", "[1, 3]", "[2, 3]"), visited);
+    }
+
+    @Test
+    void testCountsMatchBinomial() {
+        int[] count = new int[1];
+        CombinationUtils.forEachCombination(9, new int[4], indices -> count[0]++);
+
+        assertEquals(126, count[0]);
+        assertEquals(126, CombinationUtils.binomial(9, 4));
+        assertEquals(2_598_960, CombinationUtils.binomial(52, 5));
+        assertEquals(0, CombinationUtils.binomial(3, 4));
+    }
+
+    @Test
+    void testNoCombinationWhenKExceedsN() {
+        int[] count = new int[1];
+        CombinationUtils.forEachCombination(3, new int[4], indices -> count[0]++);
+
+        assertEquals(0, count[0]);
+    }
+
+    @Test
+    void testFiveCardCombinationsOfSevenCards() {
+        List<Card> cards = new Deck().getCards().subList(0, 7);
+
+        List<List<Card>> combinations = CombinationUtils.generateFiveCardCombinations(cards);
+
+        assertEquals(21, combinations.size());
+        assertEquals(cards.subList(0, 5), combinations.get(0));
+        assertEquals(cards.subList(2, 7), combinations.get(20));
+    }
+}
@@ -0,0 +1,131 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the parallel Monte Carlo equity calculator.
+ */
+class EquityCalculatorTest {
+
+    private final EquityCalculator calculator =
+        new EquityCalculator(new LookupTableEvaluator(), ForkJoinPool.commonPool());
+
+    private final List<Card> aces = List.of(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.ACE, Suit.HEARTS));
+    private final List<Card> kings = List.of(Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.KING, Suit.DIAMONDS));
+
+    @Test
+    void testAcesAgainstKingsPreFlop() {
+        EquityResult result = calculator.calculate(List.of(aces, kings), List.of(), List.of(), 40_000, null);
+
+        assertEquals(40_000, result.getSamples());
+        assertFalse(result.isExact());
+        assertEquals(0.82, result.getEquity(0), 0.02);
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+    }
+
+    @Test
+    void testCompleteBoardIsExact() {
+        List<Card> board = List.of(
+            Card.of(Rank.KING, Suit.SPADES),
+            Card.of(Rank.TWO, Suit.HEARTS),
+            Card.of(Rank.SEVEN, Suit.CLUBS),
+            Card.of(Rank.NINE, Suit.DIAMONDS),
+            Card.of(Rank.JACK, Suit.SPADES)
+        );
+
+        EquityResult result = calculator.calculate(List.of(aces, kings), board, List.of(), 1_000, null);
+
+        assertEquals(1, result.getSamples());
+        assertEquals(0.0, result.getWinProbability(0));
+        assertEquals(1.0, result.getWinProbability(1));
+    }
+
+    @Test
+    void testSplitPotCountsAsTie() {
+        List<Card> otherAces = List.of(Card.of(Rank.ACE, Suit.CLUBS), Card.of(Rank.ACE, Suit.DIAMONDS));
+        List<Card> board = List.of(
+            Card.of(Rank.KING, Suit.SPADES),
+            Card.of(Rank.QUEEN, Suit.HEARTS),
+            Card.of(Rank.SEVEN, Suit.CLUBS),
+            Card.of(Rank.FOUR, Suit.DIAMONDS)
+        );
+
+        EquityResult result = calculator.calculate(List.of(aces, otherAces), board, List.of(), 5_000, null);
+
+        assertTrue(result.getTieProbability(0) > 0.9);
+        assertEquals(result.getEquity(0), result.getEquity(1), 0.05);
+    }
+
+    @Test
+    void testFlopAllInIsEnumeratedExactly() {
+        List<Card> board = List.of(
+            Card.of(Rank.KING, Suit.SPADES),
+            Card.of(Rank.TWO, Suit.HEARTS),
+            Card.of(Rank.SEVEN, Suit.CLUBS)
+        );
+
+        EquityResult result = calculator.calculate(List.of(aces, kings), board, List.of(), 20_000, null);
+
+        // 45 cards left: C(45, 2) = 990 runouts instead of 20,000 samples
+        assertTrue(result.isExact());
+        assertEquals(990, result.getSamples());
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+        assertTrue(result.getEquity(1) > 0.85);
+    }
+
+    @Test
+    void testExactMatchesBruteForce() {
+        List<Card> board = List.of(
+            Card.of(Rank.TEN, Suit.HEARTS),
+            Card.of(Rank.JACK, Suit.HEARTS),
+            Card.of(Rank.TWO, Suit.CLUBS),
+            Card.of(Rank.NINE, Suit.SPADES)
+        );
+        List<Card> suited = List.of(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.THREE, Suit.HEARTS));
+
+        EquityResult result = calculator.calculate(List.of(suited, kings), board, List.of(), 20_000, null);
+
+        LookupTableEvaluator evaluator = new LookupTableEvaluator();
+        long used = CardSet.of(suited).union(CardSet.of(kings)).union(CardSet.of(board)).mask();
+        int wins = 0;
+        int runouts = 0;
+        for (int index = 0; index < Card.DECK_SIZE; index++) {
+            if ((used & (1L << index)) != 0) {
+                continue;
+            }
+            long boardMask = CardSet.of(board).mask() | (1L << index);
+            int first = evaluator.evaluateMask(CardSet.of(suited).mask() | boardMask);
+            int second = evaluator.evaluateMask(CardSet.of(kings).mask() | boardMask);
+            wins += first > second ? 1 : 0;
+            runouts++;
+        }
+
+        assertTrue(result.isExact());
+        assertEquals(runouts, result.getSamples());
+        assertEquals((double) wins / runouts, result.getWinProbability(0), 1e-9);
+    }
+
+    @Test
+    void testTimeBudgetStopsEarly() {
+        EquityResult result = calculator.calculate(
+            List.of(aces, kings), List.of(), List.of(), Integer.MAX_VALUE, Duration.ofMillis(50));
+
+        assertTrue(result.getSamples() > 0);
+        assertTrue(result.getSamples() < Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testRejectsDuplicateAndDeadCards() {
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(List.of(aces, aces), List.of(), List.of(), 100, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(List.of(aces, kings), List.of(), List.of(aces.get(0)), 100, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(List.of(aces), List.of(), List.of(), 100, null));
+    }
+}
@@ -1,8 +1,12 @@
 package com.poker.game.domain.evaluation;
 
+import com.poker.game.domain.evaluation.detectors.*;
 import com.poker.shared.domain.valueobject.*;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -209,4 +213,92 @@ class HandEvaluationTest {
         
         assertTrue(straightFlush.compareTo(fourOfAKind) > 0);
     }
+
+    @Test
+    void testKickerComparisonUsesPackedValue() {
+        PokerHand aceKicker = new PokerHand(HandRank.ONE_PAIR, List.of(
+            new Card(Rank.KING, Suit.HEARTS),
+            new Card(Rank.KING, Suit.DIAMONDS),
+            new Card(Rank.ACE, Suit.CLUBS),
+            new Card(Rank.SEVEN, Suit.SPADES),
+            new Card(Rank.TWO, Suit.HEARTS)
+        ));
+        PokerHand queenKicker = new PokerHand(HandRank.ONE_PAIR, List.of(
+            new Card(Rank.KING, Suit.CLUBS),
+            new Card(Rank.KING, Suit.SPADES),
+            new Card(Rank.QUEEN, Suit.CLUBS),
+            new Card(Rank.JACK, Suit.SPADES),
+            new Card(Rank.TEN, Suit.HEARTS)
+        ));
+
+        assertTrue(aceKicker.getValue() > queenKicker.getValue());
+        assertTrue(aceKicker.compareTo(queenKicker) > 0);
+        assertEquals(HandRank.ONE_PAIR, HandValue.handRank(aceKicker.getValue()));
+    }
+
+    @Test
+    void testPokerHandFromValueRebuildsBestCards() {
+        List<Card> cards = List.of(
+            new Card(Rank.TWO, Suit.HEARTS),
+            new Card(Rank.FIVE, Suit.HEARTS),
+            new Card(Rank.SEVEN, Suit.HEARTS),
+            new Card(Rank.NINE, Suit.HEARTS),
+            new Card(Rank.KING, Suit.HEARTS),
+            new Card(Rank.KING, Suit.CLUBS),
+            new Card(Rank.THREE, Suit.DIAMONDS)
+        );
+
+        int value = evaluator.evaluateValue(cards);
+        PokerHand hand = PokerHand.fromValue(value, cards);
+
+        assertEquals(HandRank.FLUSH, hand.getRank());
+        assertEquals(value, hand.getValue());
+        assertTrue(hand.getCards().stream().allMatch(card -> card.getSuit() == Suit.HEARTS));
+    }
+
+    @Test
+    void testQuadsTakeHighestKickerOverPair() {
+        PokerHand hand = evaluator.evaluate(List.of(
+            new Card(Rank.NINE, Suit.HEARTS),
+            new Card(Rank.NINE, Suit.DIAMONDS),
+            new Card(Rank.NINE, Suit.CLUBS),
+            new Card(Rank.NINE, Suit.SPADES),
+            new Card(Rank.THREE, Suit.HEARTS),
+            new Card(Rank.THREE, Suit.CLUBS),
+            new Card(Rank.KING, Suit.DIAMONDS)
+        ));
+
+        assertEquals(HandRank.FOUR_OF_A_KIND, hand.getRank());
+        assertEquals(Rank.KING, hand.getCards().get(4).getRank());
+    }
+
+    @Test
+    void testSevenCardPathMatchesBestFiveCardSubset() {
+        Random random = new Random(11);
+        List<Card> deck = new Deck().getCards();
+        List<HandDetector> chain = List.of(
+            new StraightFlushDetector(), new FourOfAKindDetector(), new FullHouseDetector(),
+            new FlushDetector(), new StraightDetector(), new ThreeOfAKindDetector(),
+            new TwoPairDetector(), new OnePairDetector(), new HighCardDetector()
+        );
+
+        for (int i = 0; i < 2_000; i++) {
+            Collections.shuffle(deck, random);
+            List<Card> cards = new ArrayList<>(deck.subList(0, 7));
+
+            int best = 0;
+            for (List<Card> fiveCards : CombinationUtils.generateFiveCardCombinations(cards)) {
+                PokerHand fiveCardHand = chain.stream()
+                    .flatMap(detector -> detector.detect(fiveCards).stream())
+                    .findFirst()
+                    .orElseThrow();
+                best = Math.max(best, fiveCardHand.getValue());
+            }
+            PokerHand hand = evaluator.evaluate(cards);
+
+            assertEquals(best, hand.getValue(), "Mismatch for " + cards);
+            assertEquals(5, hand.getCards().size());
+            assertTrue(cards.containsAll(hand.getCards()), "Best cards must come from " + cards);
+        }
+    }
 }
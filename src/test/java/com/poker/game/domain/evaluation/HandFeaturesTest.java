@@ -0,0 +1,75 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the single-pass hand features shared by the detector chain.
+ */
+class HandFeaturesTest {
+
+    @Test
+    void testHistogramAndGroupedHand() {
+        HandFeatures features = HandFeatures.of(List.of(
+            new Card(Rank.FIVE, Suit.HEARTS),
+            new Card(Rank.KING, Suit.SPADES),
+            new Card(Rank.FIVE, Suit.CLUBS),
+            new Card(Rank.KING, Suit.HEARTS),
+            new Card(Rank.FIVE, Suit.DIAMONDS)
+        ));
+
+        assertEquals(3, features.rankCount(Rank.FIVE.ordinal()));
+        assertEquals(1 << Rank.FIVE.ordinal(), features.ranksWithCount(3));
+        assertEquals(1 << Rank.KING.ordinal(), features.ranksWithCount(2));
+        assertEquals(2, features.suitCount(Suit.HEARTS));
+        assertTrue(features.flushSuit().isEmpty());
+        assertEquals(
+            List.of(Rank.FIVE, Rank.FIVE, Rank.FIVE, Rank.KING, Rank.KING),
+            features.groupedHand(Rank.FIVE.ordinal(), 3, Rank.KING.ordinal(), 2).stream().map(Card::getRank).toList()
+        );
+    }
+
+    @Test
+    void testWheelStraightMask() {
+        HandFeatures features = HandFeatures.of(List.of(
+            new Card(Rank.ACE, Suit.HEARTS),
+            new Card(Rank.TWO, Suit.SPADES),
+            new Card(Rank.THREE, Suit.CLUBS),
+            new Card(Rank.FOUR, Suit.HEARTS),
+            new Card(Rank.FIVE, Suit.DIAMONDS)
+        ));
+
+        assertEquals(1 << Rank.FIVE.ordinal(), features.getStraightMask());
+        assertEquals(
+            List.of(Rank.FIVE, Rank.FOUR, Rank.THREE, Rank.TWO, Rank.ACE),
+            features.straightCards(Rank.FIVE.ordinal(), null).stream().map(Card::getRank).toList()
+        );
+    }
+
+    @Test
+    void testSevenCardFlushAndStraights() {
+        HandFeatures features = HandFeatures.of(List.of(
+            new Card(Rank.NINE, Suit.CLUBS),
+            new Card(Rank.TEN, Suit.CLUBS),
+            new Card(Rank.JACK, Suit.CLUBS),
+            new Card(Rank.QUEEN, Suit.CLUBS),
+            new Card(Rank.KING, Suit.HEARTS),
+            new Card(Rank.TWO, Suit.CLUBS),
+            new Card(Rank.EIGHT, Suit.DIAMONDS)
+        ));
+
+        assertEquals(Suit.CLUBS, features.flushSuit().orElseThrow());
+        assertEquals(Rank.KING.ordinal(), HandFeatures.highestRank(features.getStraightMask()));
+        assertEquals(2, Integer.bitCount(features.getStraightMask()));
+        assertEquals(0, HandFeatures.straightMask(features.suitRankMask(Suit.CLUBS)));
+    }
+
+    @Test
+    void testRejectsTooFewCards() {
+        assertThrows(IllegalArgumentException.class, () -> HandFeatures.of(List.of(
+            new Card(Rank.ACE, Suit.HEARTS)
+        )));
+    }
+}
@@ -0,0 +1,71 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the per-seat incremental evaluator against full evaluations.
+ */
+class IncrementalHandEvaluatorTest {
+
+    private final LookupTableEvaluator reference = new LookupTableEvaluator();
+
+    @Test
+    void testMatchesFullEvaluationAtEveryStreet() {
+        Random random = new Random(3);
+        List<Card> deck = new Deck().getCards();
+        IncrementalHandEvaluator tableDriven = new IncrementalHandEvaluator(new LookupTableEvaluator());
+        IncrementalHandEvaluator detectorChain = new IncrementalHandEvaluator(new TexasHoldemEvaluator());
+
+        for (int i = 0; i < 5_000; i++) {
+            Collections.shuffle(deck, random);
+            tableDriven.reset();
+            detectorChain.reset();
+
+            for (int dealt = 1; dealt <= 7; dealt++) {
+                tableDriven.add(deck.get(dealt - 1));
+                detectorChain.add(deck.get(dealt - 1));
+                if (dealt >= 5) {
+                    int expected = reference.evaluateValue(deck.subList(0, dealt));
+                    assertEquals(expected, tableDriven.currentValue(), "Mismatch for " + deck.subList(0, dealt));
+                    assertEquals(expected, detectorChain.currentValue(), "Mismatch for " + deck.subList(0, dealt));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPartialHands() {
+        IncrementalHandEvaluator evaluator = new IncrementalHandEvaluator(new LookupTableEvaluator());
+
+        evaluator.add(Card.of(Rank.QUEEN, Suit.HEARTS));
+        evaluator.add(Card.of(Rank.QUEEN, Suit.SPADES));
+        assertEquals(HandRank.ONE_PAIR, evaluator.currentRank());
+
+        evaluator.add(Card.of(Rank.TWO, Suit.CLUBS));
+        evaluator.add(Card.of(Rank.TWO, Suit.DIAMONDS));
+        assertEquals(HandRank.TWO_PAIR, evaluator.currentRank());
+        assertThrows(IllegalStateException.class, evaluator::currentBestHand);
+
+        evaluator.add(Card.of(Rank.QUEEN, Suit.CLUBS));
+        assertEquals(HandRank.FULL_HOUSE, evaluator.currentRank());
+        assertEquals(5, evaluator.currentBestHand().getCards().size());
+    }
+
+    @Test
+    void testResetAndDuplicates() {
+        IncrementalHandEvaluator evaluator = new IncrementalHandEvaluator(new LookupTableEvaluator());
+        evaluator.add(Card.of(Rank.ACE, Suit.HEARTS));
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.add(Card.of(Rank.ACE, Suit.HEARTS)));
+
+        evaluator.reset();
+        assertEquals(0, evaluator.size());
+        assertTrue(evaluator.getCards().isEmpty());
+        assertEquals(HandRank.HIGH_CARD, evaluator.currentRank());
+    }
+}
@@ -0,0 +1,106 @@
+package com.poker.game.domain.evaluation;
+
+import com.poker.shared.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the table-driven evaluator against the detector chain reference.
+ */
+class LookupTableEvaluatorTest {
+
+    private final HandEvaluationStrategy reference = new TexasHoldemEvaluator();
+    private final LookupTableEvaluator evaluator = new LookupTableEvaluator();
+
+    @Test
+    void testMatchesReferenceOnRandomHands() {
+        Random random = new Random(42);
+        List<Card> deck = new Deck().getCards();
+
+        for (int i = 0; i < 20_000; i++) {
+            Collections.shuffle(deck, random);
+            List<Card> cards = new ArrayList<>(deck.subList(0, 7));
+
+            PokerHand expected = reference.evaluate(cards);
+            PokerHand actual = evaluator.evaluate(cards);
+
+            assertEquals(expected.getRank(), actual.getRank(), "Rank mismatch for " + cards);
+            assertEquals(0, expected.compareTo(actual), "Kicker mismatch for " + cards);
+            assertTrue(cards.containsAll(actual.getCards()), "Best cards must come from " + cards);
+        }
+    }
+
+    @Test
+    void testScoreOrderingMatchesReference() {
+        Random random = new Random(7);
+        List<Card> deck = new Deck().getCards();
+
+        for (int i = 0; i < 5_000; i++) {
+            Collections.shuffle(deck, random);
+            List<Card> first = new ArrayList<>(deck.subList(0, 7));
+            List<Card> second = new ArrayList<>(deck.subList(7, 14));
+
+            int expected = Integer.signum(reference.evaluate(first).compareTo(reference.evaluate(second)));
+            int actual = Integer.signum(
+                Integer.compare(evaluator.evaluateValue(first), evaluator.evaluateValue(second)));
+
+            assertEquals(expected, actual, "Ordering mismatch for " + first + " vs " + second);
+        }
+    }
+
+    @Test
+    void testWheelStraightFlushIsLowestStraightFlush() {
+        List<Card> wheel = List.of(
+            new Card(Rank.ACE, Suit.SPADES),
+            new Card(Rank.TWO, Suit.SPADES),
+            new Card(Rank.THREE, Suit.SPADES),
+            new Card(Rank.FOUR, Suit.SPADES),
+            new Card(Rank.FIVE, Suit.SPADES),
+            new Card(Rank.KING, Suit.HEARTS),
+            new Card(Rank.KING, Suit.DIAMONDS)
+        );
+        List<Card> sixHigh = List.of(
+            new Card(Rank.SIX, Suit.CLUBS),
+            new Card(Rank.TWO, Suit.CLUBS),
+            new Card(Rank.THREE, Suit.CLUBS),
+            new Card(Rank.FOUR, Suit.CLUBS),
+            new Card(Rank.FIVE, Suit.CLUBS),
+            new Card(Rank.KING, Suit.HEARTS),
+            new Card(Rank.KING, Suit.DIAMONDS)
+        );
+
+        PokerHand wheelHand = evaluator.evaluate(wheel);
+
+        assertEquals(HandRank.STRAIGHT_FLUSH, wheelHand.getRank());
+        assertEquals(Rank.ACE, wheelHand.getCards().get(4).getRank());
+        assertTrue(evaluator.evaluateValue(sixHigh) > evaluator.evaluateValue(wheel));
+    }
+
+    @Test
+    void testScoresFiveAndSixCards() {
+        List<Card> fiveCards = List.of(
+            new Card(Rank.TEN, Suit.HEARTS),
+            new Card(Rank.TEN, Suit.DIAMONDS),
+            new Card(Rank.TEN, Suit.CLUBS),
+            new Card(Rank.TWO, Suit.SPADES),
+            new Card(Rank.TWO, Suit.HEARTS)
+        );
+        List<Card> sixCards = new ArrayList<>(fiveCards);
+        sixCards.add(new Card(Rank.TEN, Suit.SPADES));
+
+        assertTrue(evaluator.evaluateValue(sixCards) > evaluator.evaluateValue(fiveCards));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluateValue(fiveCards.subList(0, 4)));
+    }
+
+    @Test
+    void testConfiguredTypeParsing() {
+        assertEquals(HandEvaluatorType.DETECTOR_CHAIN, HandEvaluatorType.fromString("detector_chain"));
+        assertEquals(HandEvaluatorType.LOOKUP_TABLE, HandEvaluatorType.fromString("unknown"));
+        assertInstanceOf(TexasHoldemEvaluator.class, HandEvaluatorType.DETECTOR_CHAIN.create());
+        assertInstanceOf(LookupTableEvaluator.class, HandEvaluatorType.LOOKUP_TABLE.create());
+    }
+}
@@ -3,13 +3,21 @@ package com.poker.game.domain.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 
+import com.poker.game.domain.evaluation.LookupTableEvaluator;
 import com.poker.player.domain.model.Player;
+import com.poker.player.domain.model.PlayerId;
+import com.poker.shared.domain.random.RngProvider;
+import com.poker.shared.domain.random.SplittableRngProvider;
 
 /**
  * Tests for Game aggregate.
@@ -101,6 +109,36 @@ public class GameTest {
         System.out.println("✓ Deal community cards test passed!");
     }
 
+    @Test
+    void testCurrentHandTracksDealtCards() {
+        List<Player> players = Arrays.asList(
+                Player.create("P1", 1000),
+                Player.create("P2", 1000)
+        );
+        LookupTableEvaluator reference = new LookupTableEvaluator();
+
+        Game game = Game.create(players, new Blinds(10, 20));
+        game.start();
+        assertNotNull(game.getCurrentHandRank(players.get(0)));
+
+        game.getCurrentRound().setPlayerBet(players.get(0), 20);
+        game.recordPlayerAction(players.get(0));
+        game.getCurrentRound().setPlayerBet(players.get(1), 20);
+        game.recordPlayerAction(players.get(1));
+        game.dealFlop();
+        game.recordPlayerAction(players.get(0));
+        game.recordPlayerAction(players.get(1));
+        game.dealTurn();
+        game.recordPlayerAction(players.get(0));
+        game.recordPlayerAction(players.get(1));
+        game.dealRiver();
+
+        for (Player player : players) {
+            int expected = reference.evaluateValue(player.getHand().getCardSet().union(game.getCommunityCardSet()));
+            assertEquals(expected, game.getCurrentHandValue(player));
+        }
+    }
+
     @Test
     void testGameRequiresMinimumPlayers() {
         List<Player> players = Arrays.asList(
@@ -151,4 +189,73 @@ public class GameTest {
 
         System.out.println("✓ Dealer rotation test passed!");
     }
+
+    @Test
+    void testRecordedHandSeedReplaysTheDeal() {
+        Game original = Game.create(List.of(Player.create("P1", 1000), Player.create("P2", 1000)),
+                new Blinds(10, 20), new LookupTableEvaluator(), new SplittableRngProvider(new SplittableRandom(7)));
+        original.start();
+
+        List<Player> replayPlayers = List.of(Player.create("P1", 1000), Player.create("P2", 1000));
+        Game replay = Game.create(replayPlayers, new Blinds(10, 20), new LookupTableEvaluator(),
+                RngProvider.replaying(original.getHandSeed()));
+        replay.start();
+
+        assertEquals(original.getHandSeed(), replay.getHandSeed());
+        for (int seat = 0; seat < 2; seat++) {
+            assertEquals(original.getPlayers().get(seat).getHand().getCards(),
+                    replay.getPlayers().get(seat).getHand().getCards());
+        }
+    }
+
+    @Test
+    void testReconstitutedGameDealsOnFromHandSeed() {
+        List<Player> players = List.of(Player.create("P1", 1000), Player.create("P2", 1000));
+        Game original = Game.create(players, new Blinds(10, 20));
+        original.start();
+
+        Game restored = Game.reconstitute(original.getId(), players, new Blinds(10, 20), GameState.PRE_FLOP,
+                original.getDealerPosition(), 30, 20, Map.of(), List.of());
+        restored.setHandSeed(original.getHandSeed());
+
+        for (Game game : List.of(original, restored)) {
+            for (Player player : players) {
+                game.getCurrentRound().setPlayerBet(player, 20);
+                game.recordPlayerAction(player);
+            }
+            game.dealFlop();
+        }
+        assertEquals(original.getCommunityCards(), restored.getCommunityCards());
+    }
+
+    @Test
+    void testPlayersAreFoundBySeatIndex() {
+        Player alice = Player.create("Alice", 1000);
+        Player bob = Player.create("Bob", 1000);
+        Game game = Game.create(List.of(alice, bob), new Blinds(10, 20));
+
+        assertEquals(1, game.getSeat(bob.getId()));
+        assertSame(bob, game.findPlayer(PlayerId.from(bob.getId().asString())).orElseThrow());
+        assertEquals(-1, game.getSeat(PlayerId.generate()));
+        assertTrue(game.findPlayer(PlayerId.generate()).isEmpty());
+
+        assertSame(game.getPlayers(), game.getPlayers());
+        assertThrows(UnsupportedOperationException.class, () -> game.getPlayers().remove(0));
+    }
+
+    @Test
+    void testChipsAreConservedThroughAHand() {
+        List<Player> players = List.of(Player.create("P1", 1000), Player.create("P2", 1000));
+        Game game = Game.create(players, new Blinds(10, 20));
+        game.start();
+
+        assertEquals(30, game.getChipLedger().pot());
+        game.determineShowdown();
+
+        assertEquals(0, game.getChipLedger().pot());
+        assertEquals(2000, players.get(0).getChipsAmount() + players.get(1).getChipsAmount());
+        assertEquals(2000, game.getChipLedger().total());
+        // Only this hand's transfers are journalled: the blinds and the payout
+        assertTrue(game.getChipLedger().journalSize() <= 4);
+    }
 }
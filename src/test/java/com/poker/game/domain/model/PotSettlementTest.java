@@ -0,0 +1,77 @@
+package com.poker.game.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.poker.game.domain.evaluation.HandRank;
+import com.poker.game.domain.evaluation.HandValue;
+
+/**
+ * Tests for main/side pot construction and payout.
+ */
+public class PotSettlementTest {
+
+    private static final int HIGH_CARD = HandValue.of(HandRank.HIGH_CARD, 12, 10, 7, 4, 2);
+    private static final int PAIR = HandValue.of(HandRank.ONE_PAIR, 5, 5, 12, 9, 3);
+    private static final int FLUSH = HandValue.of(HandRank.FLUSH, 12, 9, 7, 4, 1);
+    private static final long ALL_LIVE = 0b111;
+
+    private final PotSettlement settlement = new PotSettlement(4);
+
+    @Test
+    void testShortAllInOnlyWinsMainPot() {
+        // Seat 0 all-in for 50 with the best hand, seats 1 and 2 play on to 200
+        int[] contributions = {50, 200, 200};
+        int[] handValues = {FLUSH, PAIR, HIGH_CARD};
+        int[] payouts = new int[3];
+
+        int pots = new PotSettlement(3).settle(contributions, handValues, ALL_LIVE, 450, 0, payouts);
+
+        assertEquals(2, pots);
+        assertArrayEquals(new int[]{150, 300, 0}, payouts);
+    }
+
+    @Test
+    void testMultiWayAllInBuildsSidePots() {
+        // Three all-ins of different sizes and a deep stack that covers them
+        int[] contributions = {100, 300, 600, 600};
+        int[] handValues = {FLUSH, PAIR, HIGH_CARD, HandValue.of(HandRank.HIGH_CARD, 11, 9, 6, 3, 1)};
+        int[] payouts = new int[4];
+
+        int pots = settlement.settle(contributions, handValues, 0b1111, 1600, 0, payouts);
+
+        assertEquals(3, pots);
+        // main 400 -> seat 0, side 600 -> seat 1, side 600 -> seat 2
+        assertArrayEquals(new int[]{400, 600, 600, 0}, payouts);
+    }
+
+    @Test
+    void testSplitPotOddChipGoesLeftOfDealer() {
+        // Seat 0 folded after putting in 33; seats 1 and 2 tie; seat 3 put nothing in
+        int[] contributions = {33, 34, 34, 0};
+        int[] handValues = {0, FLUSH, FLUSH, 0};
+        int[] payouts = new int[4];
+
+        settlement.settle(contributions, handValues, 0b0110, 101, 2, payouts);
+        // Seat 2 is first left of the dealer, so it takes the odd chip
+        assertArrayEquals(new int[]{0, 50, 51, 0}, payouts);
+
+        settlement.settle(contributions, handValues, 0b0110, 101, 3, payouts);
+        // Walking clockwise from seat 3, seat 1 comes before seat 2
+        assertArrayEquals(new int[]{0, 51, 50, 0}, payouts);
+    }
+
+    @Test
+    void testFoldedExcessAndDeadMoneyArePaidOut() {
+        // Seat 2 raised to 300 then folded; seat 0 is all-in for 100
+        int[] contributions = {100, 200, 300};
+        int[] handValues = {PAIR, FLUSH, 0};
+        int[] payouts = new int[3];
+
+        int pots = new PotSettlement(3).settle(contributions, handValues, 0b011, 620, 0, payouts);
+
+        assertEquals(2, pots);
+        assertArrayEquals(new int[]{0, 620, 0}, payouts);
+    }
+}
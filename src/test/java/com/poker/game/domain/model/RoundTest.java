@@ -0,0 +1,60 @@
+package com.poker.game.domain.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.poker.player.domain.model.Player;
+
+/**
+ * Tests for Round's seat-indexed bets and seat masks, and Game's acted-seat tracking.
+ */
+public class RoundTest {
+
+    @Test
+    void testTracksBetsAndSeatMasksBySeat() {
+        Player alice = Player.create("Alice", 1000);
+        Player bob = Player.create("Bob", 0);
+        Player carol = Player.create("Carol", 1000);
+        Round round = new Round(List.of(alice, bob, carol));
+
+        round.recordPlayerBet(alice, 20);
+        round.recordPlayerBet(alice, 40);
+        round.setPlayerBet(bob, 100);
+        carol.fold();
+
+        assertEquals(60, round.getPlayerBet(alice));
+        assertEquals(100, round.getBet(1));
+        assertEquals(0b011L, round.activeSeats());
+        assertEquals(0b100L, round.foldedSeats());
+        assertEquals(0b010L, round.allInSeats());
+        assertEquals(List.of(alice, bob), round.getActivePlayers());
+        assertEquals(Map.of(alice.getId().getValue().toString(), 60, bob.getId().getValue().toString(), 100),
+            round.getAllPlayerBets());
+    }
+
+    @Test
+    void testActedSeatsRoundTripThroughPlayerIds() {
+        Game game = Game.create(List.of(Player.create("Alice", 1000), Player.create("Bob", 1000)), new Blinds(10, 20));
+        game.start();
+        Player first = game.getCurrentPlayer();
+
+        game.recordPlayerAction(first);
+
+        assertTrue(game.hasActedThisRound(first));
+        assertFalse(game.hasActedThisRound(game.getCurrentPlayer()));
+        Set<String> acted = game.getPlayersActedThisRound();
+        assertEquals(Set.of(first.getId().getValue().toString()), acted);
+
+        long actedSeats = game.getActedSeats();
+        game.setPlayersActedThisRound(Set.of());
+        assertEquals(0L, game.getActedSeats());
+        game.setPlayersActedThisRound(acted);
+        assertEquals(actedSeats, game.getActedSeats());
+    }
+}
@@ -0,0 +1,56 @@
+package com.poker.game.domain.model;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.poker.game.domain.evaluation.HandRank;
+import com.poker.game.domain.evaluation.HandValue;
+import com.poker.player.domain.model.Player;
+
+/**
+ * Tests for ShowdownResult ranking and pot shares.
+ */
+public class ShowdownResultTest {
+
+    private static final int PAIR_OF_KINGS = HandValue.of(HandRank.ONE_PAIR, 11, 11, 10, 8, 3);
+    private static final int FLUSH = HandValue.of(HandRank.FLUSH, 12, 9, 7, 4, 1);
+
+    @Test
+    void testRanksBestHandFirst() {
+        Player alice = Player.create("Alice", 1000);
+        Player bob = Player.create("Bob", 1000);
+
+        ShowdownResult result = ShowdownResult.of(List.of(alice, bob), new int[]{PAIR_OF_KINGS, FLUSH},
+            new int[]{0, 300}, 300, 1);
+
+        assertSame(bob, result.getWinner());
+        assertFalse(result.isTie());
+        assertEquals(HandRank.FLUSH, result.getWinningHandRank());
+        assertEquals(2, result.getEntries().get(1).place());
+        assertEquals(300, result.getAmountWon(bob));
+        assertEquals(0, result.getAmountWon(alice));
+    }
+
+    @Test
+    void testTiedHandsSharePlaceInSeatOrder() {
+        Player first = Player.create("First", 1000);
+        Player second = Player.create("Second", 1000);
+        Player third = Player.create("Third", 1000);
+        Player loser = Player.create("Loser", 1000);
+
+        ShowdownResult result = ShowdownResult.of(List.of(first, loser, second, third),
+            new int[]{FLUSH, PAIR_OF_KINGS, FLUSH, FLUSH}, new int[]{34, 0, 34, 33}, 101, 1);
+
+        assertTrue(result.isTie());
+        assertEquals(List.of(first, second, third), result.getWinners());
+        assertEquals(1, result.getEntries().get(2).place());
+        assertEquals(4, result.getEntries().get(3).place());
+        assertEquals(33, result.getAmountWon(third));
+        assertEquals(0, result.getAmountWon(loser));
+    }
+}
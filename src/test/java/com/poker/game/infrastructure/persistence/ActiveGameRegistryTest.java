@@ -0,0 +1,173 @@
+package com.poker.game.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.poker.game.domain.evaluation.LookupTableEvaluator;
+import com.poker.game.domain.model.Blinds;
+import com.poker.game.domain.model.Game;
+import com.poker.game.domain.model.GameId;
+import com.poker.game.domain.model.GameState;
+import com.poker.player.domain.model.Player;
+import com.poker.player.domain.repository.PlayerRepository;
+import com.poker.player.infrastructure.persistence.SQLitePlayerRepository;
+import com.poker.shared.domain.random.RngProvider;
+import com.poker.shared.domain.random.SecureRngProvider;
+import com.poker.shared.domain.random.SplittableRngProvider;
+import com.poker.shared.infrastructure.database.DatabaseInitializer;
+
+/**
+ * Tests for the in-memory game registry and its write-behind to SQLite.
+ */
+public class ActiveGameRegistryTest {
+
+    private static PlayerRepository playerRepository;
+    private static SQLiteGameRepository store;
+    private ActiveGameRegistry registry;
+
+    @BeforeAll
+    static void setupDatabase() {
+        DatabaseInitializer.initialize();
+        playerRepository = new SQLitePlayerRepository();
+        store = new SQLiteGameRepository(playerRepository);
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ActiveGameRegistry(store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    void testLiveGameIsServedFromMemoryAndWrittenBehind() {
+        Game game = startedGame();
+
+        registry.save(game);
+        assertSame(game, registry.findById(game.getId()).orElseThrow());
+
+        registry.flush();
+        assertEquals(0, registry.pendingWrites());
+        Game stored = store.findById(game.getId()).orElseThrow();
+        assertNotSame(game, stored);
+        assertEquals(game.getCurrentPot().getAmount(), stored.getCurrentPot().getAmount());
+        assertEquals(game.getHandSeed(), stored.getHandSeed());
+        assertEquals(1, registry.stats().hits());
+    }
+
+    @Test
+    void testColdGameIsRehydratedOnce() {
+        Game game = startedGame();
+        store.save(game);
+
+        Game first = registry.findById(game.getId()).orElseThrow();
+        Game second = registry.findById(game.getId()).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, registry.stats().rehydrations());
+    }
+
+    @Test
+    void testQueriesSeeLiveInstances() {
+        Game game = startedGame();
+        registry.save(game);
+
+        List<Game> games = registry.findByPlayer(game.getPlayers().get(0).getId());
+
+        assertEquals(1, games.size());
+        assertSame(game, games.get(0));
+        assertEquals(GameState.PRE_FLOP, store.findById(game.getId()).orElseThrow().getState());
+    }
+
+    @Test
+    void testIdleGameIsEvictedOnceWrittenAndRehydrated() throws InterruptedException {
+        registry.close();
+        registry = new ActiveGameRegistry(store, Duration.ofMillis(1));
+        List<GameId> evicted = new CopyOnWriteArrayList<>();
+        registry.onEviction(evicted::add);
+        Game game = startedGame();
+        registry.save(game);
+
+        // Not evicted while its snapshot is still pending
+        Thread.sleep(5);
+        registry.flush();
+        Thread.sleep(5);
+        registry.evictIdle();
+
+        assertEquals(0, registry.size());
+        assertEquals(List.of(game.getId()), evicted);
+        Game rehydrated = registry.findById(game.getId()).orElseThrow();
+        assertNotSame(game, rehydrated);
+        assertEquals(game.getState(), rehydrated.getState());
+        assertEquals(1, registry.stats().rehydrations());
+    }
+
+    @Test
+    void testFailedWriteIsKeptForRetry() {
+        registry.close();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        SQLiteGameRepository flaky = new SQLiteGameRepository(playerRepository) {
+            @Override
+            public void saveSnapshot(GameSnapshot snapshot) {
+                if (failing.get()) {
+                    throw new IllegalStateException("disk full");
+                }
+                super.saveSnapshot(snapshot);
+            }
+        };
+        registry = new ActiveGameRegistry(flaky, Duration.ZERO);
+        Game game = startedGame();
+
+        registry.save(game);
+        registry.flush();
+        assertEquals(1, registry.pendingWrites());
+        assertTrue(store.findById(game.getId()).isEmpty());
+
+        failing.set(false);
+        registry.flush();
+        assertEquals(0, registry.pendingWrites());
+        assertEquals(GameState.PRE_FLOP, store.findById(game.getId()).orElseThrow().getState());
+    }
+
+    @Test
+    void testStrongHandSeedSurvivesStorage() {
+        Game game = startedGame(new SecureRngProvider());
+        registry.save(game);
+        registry.flush();
+
+        Game stored = store.findById(game.getId()).orElseThrow();
+        assertTrue(stored.getHandSeed().isStrong());
+        assertEquals(game.getHandSeed(), stored.getHandSeed());
+    }
+
+    private static Game startedGame() {
+        return startedGame(new SplittableRngProvider(new SplittableRandom()));
+    }
+
+    private static Game startedGame(RngProvider rng) {
+        String suffix = String.valueOf(System.nanoTime());
+        Player alice = Player.create("RegistryAlice" + suffix, 1000);
+        Player bob = Player.create("RegistryBob" + suffix, 1000);
+        playerRepository.save(alice);
+        playerRepository.save(bob);
+
+        Game game = Game.create(List.of(alice, bob), new Blinds(10, 20), new LookupTableEvaluator(), rng);
+        game.start();
+        return game;
+    }
+}
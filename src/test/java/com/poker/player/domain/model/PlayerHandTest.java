@@ -0,0 +1,46 @@
+package com.poker.player.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import com.poker.shared.domain.valueobject.Card;
+import com.poker.shared.domain.valueobject.CardSet;
+import com.poker.shared.domain.valueobject.Rank;
+import com.poker.shared.domain.valueobject.Suit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the two-slot PlayerHand value object.
+ */
+class PlayerHandTest {
+
+    @Test
+    void testDealingFillsTwoSlotsInOrder() {
+        Card ace = Card.of(Rank.ACE, Suit.SPADES);
+        Card king = Card.of(Rank.KING, Suit.HEARTS);
+
+        PlayerHand one = PlayerHand.empty().addCard(ace);
+        PlayerHand two = one.addCard(king);
+
+        assertSame(one, PlayerHand.empty().addCard(ace));
+        assertEquals(List.of(ace, king), two.getCards());
+        assertEquals(2, two.size());
+        assertEquals(PlayerHand.of(List.of(ace, king)), two);
+        assertThrows(IllegalStateException.class, () -> two.addCard(Card.of(Rank.TWO, Suit.CLUBS)));
+    }
+
+    @Test
+    void testCombinesWithBoardByMask() {
+        PlayerHand hand = PlayerHand.of(List.of(Card.of(Rank.ACE, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS)));
+        CardSet board = CardSet.of(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.SEVEN, Suit.DIAMONDS),
+                Card.of(Rank.NINE, Suit.SPADES));
+
+        CardSet seven = hand.with(board);
+
+        assertEquals(5, seven.size());
+        assertEquals(hand.getCardSet().union(board), seven);
+        assertEquals(hand.mask(), hand.getCardSet().mask());
+    }
+}
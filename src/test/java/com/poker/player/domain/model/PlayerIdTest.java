@@ -0,0 +1,49 @@
+package com.poker.player.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the interned PlayerId value object.
+ */
+class PlayerIdTest {
+
+    @Test
+    void testFactoriesReturnTheInternedInstance() {
+        PlayerId id = PlayerId.generate();
+
+        assertSame(id, PlayerId.from(id.asString()));
+        assertSame(id, PlayerId.from(UUID.fromString(id.asString())));
+    }
+
+    @Test
+    void testStringFormIsCached() {
+        PlayerId id = PlayerId.generate();
+
+        assertSame(id.asString(), id.asString());
+        assertSame(id.asString(), id.toString());
+        assertEquals(id.getValue().toString(), id.asString());
+    }
+
+    @Test
+    void testBytesRoundTrip() {
+        PlayerId id = PlayerId.generate();
+
+        byte[] bytes = id.toBytes();
+
+        assertEquals(16, bytes.length);
+        assertSame(id, PlayerId.fromBytes(bytes));
+
+        bytes[0] ^= 1;
+        assertSame(id, PlayerId.fromBytes(id.toBytes()));
+    }
+
+    @Test
+    void testRejectsMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> PlayerId.from("not-a-uuid"));
+        assertThrows(IllegalArgumentException.class, () -> PlayerId.fromBytes(new byte[8]));
+    }
+}
@@ -0,0 +1,58 @@
+package com.poker.shared.domain.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.poker.shared.domain.enums.EventTypeEnum;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-scope event sequencing and counter-based event ids.
+ */
+class EventSequencerTest {
+
+    @Test
+    void testNumbersEachScopeFromOneInItsOwnEpoch() {
+        EventSequencer sequencer = new EventSequencer();
+        List<DomainEvent> sent = new ArrayList<>();
+
+        sequencer.sequence("game-1", event(), sent::add);
+        sequencer.sequence("game-1", event(), sent::add);
+        sequencer.sequence("lobby-1", event(), sent::add);
+        sequencer.forget("game-1");
+        sequencer.sequence("game-1", event(), sent::add);
+
+        assertEquals(List.of(1L, 2L, 1L, 1L), sent.stream().map(DomainEvent::sequence).toList());
+        assertEquals("lobby-1", sent.get(2).scopeId());
+        assertEquals(sent.get(0).epoch(), sent.get(1).epoch());
+        // Numbering that started over is told apart by a newer epoch
+        assertTrue(sent.get(3).epoch() > sent.get(1).epoch());
+    }
+
+    @Test
+    void testEventIdsAreUniqueAndUnsequencedUntilPublished() {
+        DomainEvent first = event();
+        DomainEvent second = event();
+
+        assertNotEquals(first.eventId(), second.eventId());
+        assertNull(first.scopeId());
+        assertEquals(0, first.sequence());
+
+        first.assignSequence("game-1", 3, 7);
+        assertEquals("game-1", first.scopeId());
+        assertEquals(3, first.epoch());
+        assertEquals(7, first.sequence());
+    }
+
+    private static DomainEvent event() {
+        return new DomainEvent(EventTypeEnum.GAME_STATE_CHANGED) {
+            @Override
+            public Object getData() {
+                return null;
+            }
+        };
+    }
+}
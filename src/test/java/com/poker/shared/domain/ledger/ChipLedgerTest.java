@@ -0,0 +1,103 @@
+package com.poker.shared.domain.ledger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import com.poker.player.domain.model.Player;
+import com.poker.shared.domain.exception.ValidationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the table chip ledger and players seated at it.
+ */
+class ChipLedgerTest {
+
+    @Test
+    void testTransfersAreJournalledAndConserved() {
+        ChipLedger ledger = new ChipLedger(2);
+        ledger.buyIn(0, 1000);
+        ledger.buyIn(1, 500);
+        ledger.openHand();
+
+        ledger.bet(0, 200);
+        ledger.bet(1, 200);
+        ledger.award(1, 400);
+
+        assertEquals(800, ledger.balance(0));
+        assertEquals(700, ledger.balance(1));
+        assertEquals(0, ledger.pot());
+        assertEquals(1500, ledger.total());
+        assertEquals(-1500, ledger.cashier());
+        ledger.checkSettlement(new int[] {200, 200}, new int[] {0, 400});
+        // The buy-ins were rolled out of the journal when the hand opened
+        assertEquals(3, ledger.journalSize());
+        assertEquals(List.of(new ChipLedger.Transfer(1, ChipLedger.POT, 200),
+                new ChipLedger.Transfer(ChipLedger.POT, 1, 400)), ledger.journal(1));
+    }
+
+    @Test
+    void testSettlementCatchesChipsThatDoNotAddUp() {
+        ChipLedger ledger = new ChipLedger(2);
+        ledger.buyIn(0, 1000);
+        ledger.buyIn(1, 1000);
+        assertThrows(IllegalStateException.class, () -> ledger.checkSettlement(new int[2], new int[2]));
+
+        ledger.openHand();
+        ledger.bet(0, 100);
+        ledger.bet(1, 100);
+        ledger.award(0, 200);
+        // Settlement says seat 1 won, ledger paid seat 0
+        assertThrows(IllegalStateException.class,
+                () -> ledger.checkSettlement(new int[] {100, 100}, new int[] {0, 200}));
+
+        // Chips that came from the cashier mid-hand change the table total
+        ledger.openHand();
+        ledger.buyIn(1, 50);
+        assertThrows(IllegalStateException.class, () -> ledger.checkSettlement(new int[2], new int[2]));
+
+        ledger.openHand();
+        ledger.bet(0, 10);
+        assertThrows(IllegalStateException.class,
+                () -> ledger.checkSettlement(new int[] {10, 0}, new int[2]));
+    }
+
+    @Test
+    void testRejectsOverdraftsAndOverflow() {
+        ChipLedger ledger = new ChipLedger(2);
+        ledger.buyIn(0, 100);
+        ledger.buyIn(1, Integer.MAX_VALUE);
+
+        assertThrows(ValidationException.class, () -> ledger.bet(0, 101));
+        assertThrows(ValidationException.class, () -> ledger.bet(0, -1));
+        ledger.bet(0, 100);
+        assertThrows(ValidationException.class, () -> ledger.award(1, 100));
+
+        assertEquals(100, ledger.pot());
+        assertEquals(3, ledger.journalSize());
+        assertEquals(100L + Integer.MAX_VALUE, ledger.total());
+    }
+
+    @Test
+    void testSeatedPlayerReadsAndMovesChipsThroughLedger() {
+        Player alice = Player.create("Alice", 1000);
+        ChipLedger first = new ChipLedger(1);
+        alice.seatAt(first, 0);
+
+        first.bet(0, 300);
+        assertEquals(700, alice.getChipsAmount());
+        alice.addChips(50);
+        assertEquals(750, first.balance(0));
+
+        ChipLedger second = new ChipLedger(3);
+        alice.seatAt(second, 2);
+
+        assertEquals(0, first.balance(0));
+        assertEquals(750, second.balance(2));
+        assertEquals(750, alice.getChipsAmount());
+        assertEquals(300, first.total()); // The bet is still in the pot
+        assertEquals(750, second.total());
+        assertEquals(0, first.total() + first.cashier());
+    }
+}
@@ -0,0 +1,79 @@
+package com.poker.shared.domain.random;
+
+import org.junit.jupiter.api.Test;
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the table RNG providers.
+ */
+class RngProviderTest {
+
+    @Test
+    void testSeededProvidersAreDeterministic() {
+        RngProvider first = new SplittableRngProvider(new SplittableRandom(99));
+        RngProvider second = new SplittableRngProvider(new SplittableRandom(99));
+
+        for (int hand = 0; hand < 10; hand++) {
+            HandSeed seed = first.nextHandSeed();
+            assertEquals(seed, second.nextHandSeed());
+            assertEquals(first.forHand(seed).nextLong(), second.forHand(seed).nextLong());
+        }
+    }
+
+    @Test
+    void testSecureProviderRefillsItsBatch() {
+        RngProvider provider = new SecureRngProvider(new SecureRandom());
+
+        Set<HandSeed> seeds = new HashSet<>();
+        for (int hand = 0; hand < 200; hand++) {
+            HandSeed seed = provider.nextHandSeed();
+            assertTrue(seed.isStrong());
+            seeds.add(seed);
+        }
+        assertEquals(200, seeds.size());
+    }
+
+    @Test
+    void testStrongSeedReplaysFromItsHexForm() {
+        HandSeed seed = new SecureRngProvider().nextHandSeed();
+        HandSeed recorded = HandSeed.fromHex(seed.toHex());
+
+        assertEquals(seed, recorded);
+        assertEquals(64, recorded.toHex().length());
+        RandomGenerator original = seed.newGenerator();
+        RandomGenerator replay = recorded.newGenerator();
+        for (int i = 0; i < 8; i++) {
+            assertEquals(original.nextLong(), replay.nextLong());
+        }
+        assertThrows(IllegalArgumentException.class, () -> HandSeed.of(new byte[16]));
+    }
+
+    @Test
+    void testLongSeedKeepsItsValue() {
+        assertEquals(-42L, HandSeed.of(-42L).asLong());
+        assertEquals(HandSeed.of(7L), HandSeed.fromHex(HandSeed.of(7L).toHex()));
+        assertEquals(new SplittableRandom(7L).nextLong(), HandSeed.of(7L).newGenerator().nextLong());
+    }
+
+    @Test
+    void testReplayingReturnsRecordedSeeds() {
+        RngProvider provider = RngProvider.replaying(HandSeed.of(11L), HandSeed.of(22L));
+
+        assertEquals(HandSeed.of(11L), provider.nextHandSeed());
+        assertEquals(HandSeed.of(22L), provider.nextHandSeed());
+        assertThrows(IllegalStateException.class, provider::nextHandSeed);
+    }
+
+    @Test
+    void testModeParsing() {
+        assertEquals(RngMode.SECURE, RngMode.fromString("secure"));
+        assertEquals(RngMode.SPLITTABLE, RngMode.fromString(" "));
+        assertThrows(IllegalArgumentException.class, () -> RngMode.fromString("SECRUE"));
+        assertNotNull(RngMode.SEEDED.create());
+    }
+}
@@ -0,0 +1,70 @@
+package com.poker.shared.domain.random;
+
+import com.poker.shared.domain.valueobject.Deck;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the background pre-shuffled deck pool.
+ */
+class ShuffledDeckPoolTest {
+
+    @Test
+    void testPooledDeckReplaysFromItsSeed() throws InterruptedException {
+        RngProvider seeds = new SplittableRngProvider(new SplittableRandom(5));
+        try (ShuffledDeckPool pool = new ShuffledDeckPool(seeds, 8, 2)) {
+            awaitSize(pool, 8);
+
+            ShuffledDeckPool.ShuffledDeck pooled = pool.poll();
+            Deck replay = new Deck();
+            replay.reset(seeds.forHand(pooled.handSeed()));
+
+            assertEquals(replay.getCards(), List.of(pooled.order()));
+            assertEquals(1, pool.stats().hits());
+        }
+    }
+
+    @Test
+    void testRefillsBelowLowWatermark() throws InterruptedException {
+        try (ShuffledDeckPool pool = new ShuffledDeckPool(new SplittableRngProvider(new SplittableRandom(1)), 4, 1)) {
+            awaitSize(pool, 4);
+            for (int i = 0; i < 3; i++) {
+                assertNotNull(pool.poll());
+            }
+
+            awaitSize(pool, 4);
+            ShuffledDeckPool.Stats stats = pool.stats();
+            assertEquals(3, stats.hits());
+            assertTrue(stats.refills() >= 2);
+            assertTrue(stats.shuffled() >= 7);
+        }
+    }
+
+    @Test
+    void testRejectsBadWatermarks() {
+        RngProvider seeds = new SplittableRngProvider(new SplittableRandom());
+        assertThrows(IllegalArgumentException.class, () -> new ShuffledDeckPool(seeds, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShuffledDeckPool(seeds, 4, 4));
+    }
+
+    @Test
+    void testOnlySecurePoolsByDefault() {
+        assumeTrue(System.getenv("DECK_POOL_SIZE") == null);
+
+        assertEquals(256, ShuffledDeckPool.capacityFor(RngMode.SECURE));
+        assertEquals(0, ShuffledDeckPool.capacityFor(RngMode.SPLITTABLE));
+        assertNull(ShuffledDeckPool.shared(RngMode.SPLITTABLE));
+        assertNull(ShuffledDeckPool.shared(RngMode.SEEDED));
+    }
+
+    private static void awaitSize(ShuffledDeckPool pool, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (pool.size() < size) {
+            assertTrue(System.nanoTime() < deadline, "Pool did not fill to " + size);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.poker.shared.domain.timer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for HashedTimingWheel expiry, cancellation and multi-round timeouts.
+ */
+public class HashedTimingWheelTest {
+
+    // 8 buckets of 5 ms: anything over 40 ms needs more than one turn of the wheel
+    private final HashedTimingWheel wheel = new HashedTimingWheel(5, 8);
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void testFiresNoEarlierThanItsDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong firedAt = new AtomicLong();
+        long start = System.nanoTime();
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        }, 120, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - start) >= 120);
+        assertTrue(timeout.isExpired());
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void testCancelledTimeoutNeverFires() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> ran.set(true), 30, TimeUnit.MILLISECONDS);
+        wheel.schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+        assertEquals(1, wheel.stats().cancelled());
+        assertEquals(1, wheel.stats().expired());
+    }
+
+    @Test
+    void testRejectsSchedulingOnceClosed() {
+        wheel.close();
+
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(() -> { }, 1, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,66 @@
+package com.poker.shared.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the interned Card universe and the CardSet value object.
+ */
+class CardSetTest {
+
+    @Test
+    void testCardsAreInterned() {
+        Card aceOfSpades = Card.of(Rank.ACE, Suit.SPADES);
+
+        assertSame(aceOfSpades, Card.of(Rank.ACE, Suit.SPADES));
+        assertSame(aceOfSpades, Card.fromString("A♠"));
+        assertSame(aceOfSpades, Card.ofIndex(aceOfSpades.getIndex()));
+        assertEquals(aceOfSpades, new Card(Rank.ACE, Suit.SPADES));
+    }
+
+    @Test
+    void testIndexesCoverTheDeck() {
+        long allCards = 0L;
+        for (int index = 0; index < Card.DECK_SIZE; index++) {
+            Card card = Card.ofIndex(index);
+            assertEquals(index, card.getIndex());
+            allCards |= card.getMask();
+        }
+
+        assertEquals(52, Long.bitCount(allCards));
+        assertThrows(IllegalArgumentException.class, () -> Card.ofIndex(52));
+    }
+
+    @Test
+    void testUnionAndMembership() {
+        CardSet hole = CardSet.of(Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.KING, Suit.HEARTS));
+        CardSet board = CardSet.of(List.of(
+            Card.of(Rank.QUEEN, Suit.HEARTS),
+            Card.of(Rank.JACK, Suit.HEARTS),
+            Card.of(Rank.TEN, Suit.HEARTS)
+        ));
+
+        CardSet all = hole.union(board);
+
+        assertEquals(5, all.size());
+        assertTrue(all.contains(Card.of(Rank.TEN, Suit.HEARTS)));
+        assertFalse(all.contains(Card.of(Rank.TEN, Suit.SPADES)));
+        assertFalse(hole.intersects(board));
+        assertEquals(0b1111100000000, all.suitMask(Suit.HEARTS));
+        assertEquals(0, all.suitMask(Suit.SPADES));
+        assertEquals(hole, all.without(Card.of(Rank.QUEEN, Suit.HEARTS))
+            .without(Card.of(Rank.JACK, Suit.HEARTS))
+            .without(Card.of(Rank.TEN, Suit.HEARTS)));
+    }
+
+    @Test
+    void testToListIsOrderedByIndex() {
+        CardSet cards = CardSet.empty()
+            .with(Card.of(Rank.ACE, Suit.SPADES))
+            .with(Card.of(Rank.TWO, Suit.HEARTS));
+
+        assertEquals(List.of(Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.ACE, Suit.SPADES)), cards.toList());
+        assertTrue(CardSet.empty().isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+package com.poker.shared.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the array-backed Deck.
+ */
+class DeckTest {
+
+    @Test
+    void testDealsEveryCardOnce() {
+        Deck deck = new Deck();
+        deck.shuffle();
+
+        long dealt = 0L;
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            Card card = deck.dealCard();
+            assertEquals(0L, dealt & card.getMask(), "Dealt twice: " + card);
+            dealt |= card.getMask();
+        }
+        assertTrue(deck.isEmpty());
+        assertThrows(IllegalStateException.class, deck::dealCard);
+    }
+
+    @Test
+    void testResetRefillsAndShuffles() {
+        Deck deck = new Deck();
+        for (int i = 0; i < 10; i++) {
+            deck.dealCard();
+        }
+        deck.removeAll(List.of(Card.of(Rank.ACE, Suit.SPADES)));
+
+        deck.reset();
+
+        assertEquals(Card.DECK_SIZE, deck.size());
+        assertEquals(Card.DECK_SIZE, CardSet.of(deck.getCards()).size());
+    }
+
+    @Test
+    void testSeededShuffleIsRepeatable() {
+        Deck first = new Deck();
+        Deck second = new Deck();
+        first.shuffle(new SplittableRandom(42));
+        second.shuffle(new SplittableRandom(42));
+
+        assertEquals(first.getCards(), second.getCards());
+        assertNotEquals(new Deck().getCards(), first.getCards());
+    }
+
+    @Test
+    void testRemoveAllSkipsCardsInPlay() {
+        Deck deck = new Deck();
+        Card kingOfHearts = Card.of(Rank.KING, Suit.HEARTS);
+        Card twoOfClubs = Card.of(Rank.TWO, Suit.CLUBS);
+
+        deck.removeAll(List.of(kingOfHearts, twoOfClubs));
+
+        assertEquals(50, deck.size());
+        assertFalse(deck.getCards().contains(kingOfHearts));
+        assertFalse(deck.getCards().contains(twoOfClubs));
+    }
+}
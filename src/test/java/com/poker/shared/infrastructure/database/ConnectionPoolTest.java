@@ -0,0 +1,102 @@
+package com.poker.shared.infrastructure.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the writer/reader connection pool and its statement caches.
+ */
+class ConnectionPoolTest {
+
+    @TempDir
+    Path dir;
+
+    private ConnectionPool open(int readers) throws SQLException {
+        return new ConnectionPool("jdbc:sqlite:" + dir.resolve("pool.db"), readers, 8, 200);
+    }
+
+    @Test
+    void testReusesPreparedStatementsAcrossLeases() throws Exception {
+        try (ConnectionPool pool = open(1)) {
+            try (Connection conn = pool.getWriteConnection(); Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE chips (id TEXT PRIMARY KEY, amount INTEGER)");
+            }
+            for (int i = 0; i < 3; i++) {
+                try (Connection conn = pool.getWriteConnection();
+                     PreparedStatement stmt = conn.prepareStatement("INSERT INTO chips VALUES (?, ?)")) {
+                    stmt.setString(1, "p" + i);
+                    stmt.setInt(2, i * 100);
+                    stmt.executeUpdate();
+                }
+            }
+
+            try (Connection conn = pool.getReadConnection();
+                 PreparedStatement stmt = conn.prepareStatement("SELECT SUM(amount) FROM chips")) {
+                ResultSet rs = stmt.executeQuery();
+                assertTrue(rs.next());
+                assertEquals(300, rs.getInt(1));
+            }
+
+            ConnectionPool.Stats stats = pool.stats();
+            assertEquals(2, stats.statementHits());
+            assertEquals(2, stats.statementMisses());
+            assertEquals(5, stats.acquired());
+            assertFalse(stats.writerBusy());
+        }
+    }
+
+    @Test
+    void testReadersCannotWrite() throws Exception {
+        try (ConnectionPool pool = open(1);
+             Connection conn = pool.getReadConnection();
+             Statement stmt = conn.createStatement()) {
+            assertThrows(SQLException.class, () -> stmt.execute("CREATE TABLE nope (id TEXT)"));
+        }
+    }
+
+    @Test
+    void testLeasesAreReentrantAndRollBackOnReturn() throws Exception {
+        try (ConnectionPool pool = open(1)) {
+            try (Connection outer = pool.getWriteConnection()) {
+                try (Statement stmt = outer.createStatement()) {
+                    stmt.execute("CREATE TABLE games (id TEXT)");
+                }
+                outer.setAutoCommit(false);
+                try (Connection inner = pool.getWriteConnection(); Statement stmt = inner.createStatement()) {
+                    stmt.execute("INSERT INTO games VALUES ('g1')");
+                }
+                assertFalse(outer.isClosed());
+            }
+
+            try (Connection conn = pool.getReadConnection(); Statement stmt = conn.createStatement()) {
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM games");
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    void testWriterWaitTimesOut() throws Exception {
+        try (ConnectionPool pool = open(1); Connection held = pool.getWriteConnection()) {
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+                SQLException e = assertThrows(SQLException.class, pool::getWriteConnection);
+                assertTrue(e.getMessage().contains("Timed out"));
+            });
+            other.get();
+
+            assertEquals(1, pool.stats().timeouts());
+            assertTrue(pool.stats().writerBusy());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.poker.shared.infrastructure.events;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.poker.shared.domain.enums.EventTypeEnum;
+import com.poker.shared.domain.events.DomainEvent;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+
+/**
+ * Tests for the numbering of events as WebSocketEventPublisher sends them.
+ */
+public class WebSocketEventPublisherTest {
+
+    private final WebSocketEventPublisher publisher = WebSocketEventPublisher.getInstance();
+
+    @Test
+    void testConcurrentPublishesArriveNumberedInOrderWithoutGaps() throws InterruptedException {
+        String scopeId = "game-" + UUID.randomUUID();
+        List<JsonObject> received = Collections.synchronizedList(new ArrayList<>());
+        Session session = session(received);
+        publisher.subscribe(scopeId, session, "player-" + UUID.randomUUID());
+
+        int threads = 8;
+        int perThread = 250;
+        CountDownLatch done = new CountDownLatch(threads);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        publisher.publishToScope(scopeId, event());
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            publisher.cleanupSession(session);
+        }
+
+        assertEquals(threads * perThread, received.size());
+        long epoch = received.get(0).get("epoch").getAsLong();
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(scopeId, received.get(i).get("scopeId").getAsString());
+            assertEquals(epoch, received.get(i).get("epoch").getAsLong());
+            assertEquals(i + 1, received.get(i).get("sequence").getAsLong());
+        }
+    }
+
+    @Test
+    void testNumberingSurvivesTheLastSubscriberLeaving() {
+        String scopeId = "lobby-" + UUID.randomUUID();
+        List<JsonObject> received = Collections.synchronizedList(new ArrayList<>());
+        Session first = session(received);
+        publisher.subscribe(scopeId, first, "player-" + UUID.randomUUID());
+        publisher.publishToScope(scopeId, event());
+        publisher.cleanupSession(first);
+
+        Session second = session(received);
+        publisher.subscribe(scopeId, second, "player-" + UUID.randomUUID());
+        publisher.publishToScope(scopeId, event());
+        publisher.cleanupSession(second);
+
+        assertEquals(2, received.get(1).get("sequence").getAsLong());
+        assertEquals(received.get(0).get("epoch").getAsLong(), received.get(1).get("epoch").getAsLong());
+    }
+
+    /**
+     * An open session whose sends are parsed into the given list.
+     */
+    private static Session session(List<JsonObject> received) {
+        RemoteEndpoint.Basic remote = (RemoteEndpoint.Basic) Proxy.newProxyInstance(
+            WebSocketEventPublisherTest.class.getClassLoader(), new Class<?>[] {RemoteEndpoint.Basic.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("sendText")) {
+                    received.add(JsonParser.parseString((String) args[0]).getAsJsonObject());
+                }
+                return null;
+            });
+        String id = UUID.randomUUID().toString();
+        return (Session) Proxy.newProxyInstance(
+            WebSocketEventPublisherTest.class.getClassLoader(), new Class<?>[] {Session.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getBasicRemote" -> remote;
+                case "isOpen" -> true;
+                case "getId" -> id;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+    }
+
+    private static DomainEvent event() {
+        return new TestEvent();
+    }
+
+    // Named, since Gson skips anonymous classes
+    private static final class TestEvent extends DomainEvent {
+        TestEvent() {
+            super(EventTypeEnum.GAME_STATE_CHANGED);
+        }
+
+        @Override
+        public Object getData() {
+            return null;
+        }
+    }
+}
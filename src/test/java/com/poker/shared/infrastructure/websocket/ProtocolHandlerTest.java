@@ -0,0 +1,59 @@
+package com.poker.shared.infrastructure.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for how ProtocolHandler picks a command's table before dispatching it.
+ */
+public class ProtocolHandlerTest {
+
+    private final TableActors actors = TableActors.create();
+    private final ProtocolHandler handler = new ProtocolHandler(null, null, actors);
+
+    @AfterEach
+    void tearDown() {
+        actors.close();
+    }
+
+    @Test
+    void testGameIdIsCanonicalised() {
+        String gameId = UUID.randomUUID().toString();
+
+        assertEquals(gameId, ProtocolHandler.tableId(data("{\"gameId\": \"" + gameId.toUpperCase() + "\"}")));
+        assertEquals("lobby-1", ProtocolHandler.tableId(data("{\"lobbyId\": \"lobby-1\"}")));
+        assertNull(ProtocolHandler.tableId(data("{\"playerName\": \"Alice\"}")));
+        assertThrows(IllegalArgumentException.class, () -> ProtocolHandler.tableId(data("{\"gameId\": \"nope\"}")));
+    }
+
+    @Test
+    void testMalformedIdsGetAnErrorResponse() {
+        for (String data : List.of("{\"gameId\": null}", "{\"gameId\": [1, 2]}", "{\"lobbyId\": {}}",
+                "{\"gameId\": \"not-a-uuid\"}")) {
+            List<WebSocketResponse<?>> replies = new ArrayList<>();
+            handler.dispatch("{\"command\": \"CHECK\", \"data\": " + data + "}", null, replies::add);
+
+            assertEquals(1, replies.size(), data);
+            assertFalse(replies.get(0).isSuccess(), data);
+        }
+
+        List<WebSocketResponse<?>> replies = new ArrayList<>();
+        handler.dispatch("{\"command\": [\"CHECK\"]}", null, replies::add);
+        assertFalse(replies.get(0).isSuccess());
+    }
+
+    private static JsonObject data(String json) {
+        return JsonParser.parseString(json).getAsJsonObject();
+    }
+}
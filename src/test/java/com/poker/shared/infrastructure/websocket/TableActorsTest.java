@@ -0,0 +1,93 @@
+package com.poker.shared.infrastructure.websocket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for TableActors ordering, isolation and queue depth.
+ */
+public class TableActorsTest {
+
+    private final TableActors actors = TableActors.create();
+
+    @AfterEach
+    void tearDown() {
+        actors.close();
+    }
+
+    @Test
+    void testCommandsForOneTableRunInSubmitOrder() throws InterruptedException {
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(200);
+
+        for (int i = 0; i < 200; i++) {
+            int command = i;
+            actors.submit("game-1", () -> {
+                ran.add(command);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, ran.get(i));
+        }
+    }
+
+    @Test
+    void testBlockedTableDoesNotHoldUpOthersAndReportsDepth() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherTable = new CountDownLatch(1);
+
+        actors.submit("busy", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        actors.submit("busy", () -> { });
+        actors.submit("busy", () -> { throw new IllegalStateException("Not your turn"); });
+        actors.submit("idle", otherTable::countDown);
+
+        assertTrue(otherTable.await(5, TimeUnit.SECONDS));
+        assertEquals(3, actors.queueDepth("busy"));
+        assertEquals(3, actors.queueDepths().get("busy"));
+
+        release.countDown();
+        CountDownLatch drained = new CountDownLatch(1);
+        actors.submit("busy", drained::countDown);
+        assertTrue(drained.await(5, TimeUnit.SECONDS));
+        assertEquals(1, actors.stats().failed());
+        assertTrue(actors.stats().maxQueueDepth() >= 3);
+    }
+
+    @Test
+    void testPlatformModeRunsTablelessCommandsOnPooledThreads() throws InterruptedException {
+        assertEquals(CommandExecutorMode.PLATFORM, CommandExecutorMode.fromString(" platform "));
+        assertEquals(CommandExecutorMode.VIRTUAL, CommandExecutorMode.fromString("unknown"));
+
+        try (TableActors platform = TableActors.create(CommandExecutorMode.PLATFORM)) {
+            CountDownLatch done = new CountDownLatch(2);
+            List<Boolean> virtual = Collections.synchronizedList(new ArrayList<>());
+            Runnable command = () -> {
+                virtual.add(Thread.currentThread().isVirtual());
+                done.countDown();
+            };
+
+            platform.execute(command);
+            platform.submit("game-1", command);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(false, false), virtual);
+        }
+    }
+}